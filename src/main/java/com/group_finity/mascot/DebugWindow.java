@@ -1,8 +1,24 @@
 package com.group_finity.mascot;
 
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.io.IOException;
+
 import javax.swing.*;
 
+import com.group_finity.mascot.script.ScriptProfiler;
+
 public class DebugWindow extends JFrame{
+    /**
+     * 脚本分析表最多显示的脚本数量, 全部统计可以导出到文件
+     */
+    private static final int SCRIPT_PROFILE_ROWS = 30;
+
+    /**
+     * 窗口显示时每秒刷新一次脚本分析表
+     */
+    private final Timer scriptProfileTimer = new Timer(1000, e -> refreshScriptProfile());
+
     public DebugWindow() {
         initComponents();
     }
@@ -39,6 +55,11 @@ public class DebugWindow extends JFrame{
         lblEnvironmentWidthValue = new JLabel();
         lblActiveIE = new JLabel();
         lblActiveIEValue = new JLabel();
+        lblScripts = new JLabel();
+        chkProfileScripts = new JCheckBox();
+        btnDumpScripts = new JButton();
+        scrScripts = new JScrollPane();
+        txtScripts = new JTextArea();
 
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
 
@@ -102,6 +123,20 @@ public class DebugWindow extends JFrame{
         lblActiveIEValue.setHorizontalAlignment(SwingConstants.LEFT);
         lblActiveIEValue.setText("N/A");
 
+        lblScripts.setText("Scripts");
+
+        chkProfileScripts.setText("Profile");
+        chkProfileScripts.addActionListener(this::chkProfileScriptsActionPerformed);
+
+        btnDumpScripts.setText("Dump");
+        btnDumpScripts.addActionListener(this::btnDumpScriptsActionPerformed);
+
+        txtScripts.setEditable(false);
+        txtScripts.setColumns(80);
+        txtScripts.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+        txtScripts.setRows(12);
+        scrScripts.setViewportView(txtScripts);
+
         GroupLayout layout = new GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
         layout.setHorizontalGroup(
@@ -139,6 +174,17 @@ public class DebugWindow extends JFrame{
                                                         .addComponent(lblActiveIEValue))
                                                 .addGap(0, 0, Short.MAX_VALUE)))
                                 .addContainerGap())
+                        .addGroup(layout.createSequentialGroup()
+                                .addContainerGap()
+                                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.LEADING)
+                                        .addGroup(layout.createSequentialGroup()
+                                                .addComponent(lblScripts)
+                                                .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED, GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                                                .addComponent(chkProfileScripts)
+                                                .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED)
+                                                .addComponent(btnDumpScripts))
+                                        .addComponent(scrScripts, GroupLayout.DEFAULT_SIZE, 560, Short.MAX_VALUE))
+                                .addContainerGap())
         );
         layout.setVerticalGroup(
                 layout.createParallelGroup(GroupLayout.Alignment.LEADING)
@@ -191,12 +237,44 @@ public class DebugWindow extends JFrame{
                                 .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
                                         .addComponent(lblEnvironmentHeight)
                                         .addComponent(lblEnvironmentHeightValue))
-                                .addContainerGap(GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
+                                .addPreferredGap(LayoutStyle.ComponentPlacement.UNRELATED)
+                                .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
+                                        .addComponent(lblScripts)
+                                        .addComponent(chkProfileScripts)
+                                        .addComponent(btnDumpScripts))
+                                .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(scrScripts, GroupLayout.DEFAULT_SIZE, 200, Short.MAX_VALUE)
+                                .addContainerGap())
         );
 
         pack();
     }// </editor-fold>//GEN-END:initComponents
 
+    private void chkProfileScriptsActionPerformed(ActionEvent evt) {//GEN-FIRST:event_chkProfileScriptsActionPerformed
+        ScriptProfiler.setEnabled(chkProfileScripts.isSelected());
+        refreshScriptProfile();
+    }//GEN-LAST:event_chkProfileScriptsActionPerformed
+
+    private void btnDumpScriptsActionPerformed(ActionEvent evt) {//GEN-FIRST:event_btnDumpScriptsActionPerformed
+        try {
+            JOptionPane.showMessageDialog(this, Main.getInstance().getLanguageBundle().getString("ScriptProfileWritten") + " " + ScriptProfiler.dump().toAbsolutePath());
+        } catch (final IOException e) {
+            Main.showError(Main.getInstance().getLanguageBundle().getString("FailedDumpScriptProfileErrorMessage"), e);
+        }
+    }//GEN-LAST:event_btnDumpScriptsActionPerformed
+
+    /**
+     * 用最新的统计刷新脚本分析表, 没有启用分析时显示提示
+     */
+    private void refreshScriptProfile() {
+        if (ScriptProfiler.isEnabled()) {
+            txtScripts.setText(ScriptProfiler.getReport(SCRIPT_PROFILE_ROWS));
+        } else {
+            txtScripts.setText(Main.getInstance().getLanguageBundle().getString("ScriptProfilerDisabled"));
+        }
+        txtScripts.setCaretPosition(0);
+    }
+
     void setBehaviour(String text) {
         lblBehaviourValue.setText(text);
     }
@@ -260,11 +338,27 @@ public class DebugWindow extends JFrame{
             lblEnvironmentY.setText(Main.getInstance().getLanguageBundle().getString("EnvironmentY"));
             lblEnvironmentWidth.setText(Main.getInstance().getLanguageBundle().getString("EnvironmentWidth"));
             lblEnvironmentHeight.setText(Main.getInstance().getLanguageBundle().getString("EnvironmentHeight"));
+            lblScripts.setText(Main.getInstance().getLanguageBundle().getString("ScriptProfile"));
+            chkProfileScripts.setText(Main.getInstance().getLanguageBundle().getString("ProfileScripts"));
+            btnDumpScripts.setText(Main.getInstance().getLanguageBundle().getString("DumpScriptProfile"));
+            chkProfileScripts.setSelected(ScriptProfiler.isEnabled());
+            refreshScriptProfile();
+            scriptProfileTimer.start();
+        } else {
+            scriptProfileTimer.stop();
         }
         super.setVisible(b);
     }
 
+    @Override
+    public void dispose() {
+        scriptProfileTimer.stop();
+        super.dispose();
+    }
+
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private JButton btnDumpScripts;
+    private JCheckBox chkProfileScripts;
     private JLabel lblActiveIE;
     private JLabel lblActiveIEValue;
     private JLabel lblBehaviour;
@@ -277,6 +371,7 @@ public class DebugWindow extends JFrame{
     private JLabel lblEnvironmentXValue;
     private JLabel lblEnvironmentY;
     private JLabel lblEnvironmentYValue;
+    private JLabel lblScripts;
     private JLabel lblShimejiX;
     private JLabel lblShimejiXValue;
     private JLabel lblShimejiY;
@@ -289,5 +384,7 @@ public class DebugWindow extends JFrame{
     private JLabel lblWindowXValue;
     private JLabel lblWindowY;
     private JLabel lblWindowYValue;
+    private JScrollPane scrScripts;
+    private JTextArea txtScripts;
     // End of variables declaration//GEN-END:variables
 }
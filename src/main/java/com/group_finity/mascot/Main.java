@@ -7,6 +7,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
@@ -35,8 +36,13 @@ import com.group_finity.mascot.config.Configuration;
 import com.group_finity.mascot.config.Entry;
 import com.group_finity.mascot.exception.*;
 import com.group_finity.mascot.image.ImagePairs;
+import com.group_finity.mascot.image.ImageSetPack;
+import com.group_finity.mascot.image.MemoryPlanner;
 import com.group_finity.mascot.imagesetchooser.ImageSetChooser;
 import com.group_finity.mascot.platform.NativeFactory;
+import com.group_finity.mascot.script.Expression;
+import com.group_finity.mascot.script.ScriptProfiler;
+import com.group_finity.mascot.script.ScriptWatchdog;
 import com.group_finity.mascot.sound.Sounds;
 
 public class Main {
@@ -85,6 +91,11 @@ public class Main {
      * 如果一个 mascot "Mascot1" 能够变换成另一个 mascot 类型 "Mascot2", Mascot2 就会作为 Mascot1 的子图片集存储. */
     private final ConcurrentHashMap<String, ArrayList<String>> childImageSets = new ConcurrentHashMap<>();
     private final Properties properties = new Properties();
+    /**{@link #properties}中频繁读取的设置项的快照, 设置改变时整体替换 */
+    private volatile Settings settings = Settings.fromProperties(properties, null);
+
+    /**是否已经创建过第一个 mascot, 用于在日志中记录启动耗时 */
+    private final AtomicBoolean firstMascotCreated = new AtomicBoolean();
     private ResourceBundle languageBundle;
 
     /**
@@ -161,6 +172,12 @@ public class Main {
                 log.log(Level.SEVERE, "Failed to load settings", e);
             }
         }
+        updateSettings();
+        ScriptProfiler.setEnabled(Boolean.parseBoolean(properties.getProperty("ScriptProfiler", "false")));
+        ScriptWatchdog.setBudget(Long.parseLong(properties.getProperty("ScriptTimeBudget", String.valueOf(ScriptWatchdog.DEFAULT_BUDGET))));
+
+        // 在加载语言和图片集的同时, 在后台创建脚本引擎
+        Expression.startEngine();
 
         // 加载语言
         Locale locale = Locale.forLanguageTag(properties.getProperty("Language", Locale.UK.toLanguageTag())); // 设置语言，优先按配置文件的设置，否则默认设为英语
@@ -195,6 +212,9 @@ public class Main {
                 }
             }
 
+            // 先估算选择的图片集需要多少内存, 必要时启用紧凑存储
+            MemoryPlanner.plan(imageSets);
+
             // 遍历图片集, 加载所有的 mascot configurations
             for (int index =0; index < imageSets.size(); index++) {
                 // 确认图片集的配置能够正常加载,加载失败的删掉
@@ -229,6 +249,26 @@ public class Main {
     }
 
      /**
+     * 在图片集的包中按顺序查找配置文件
+     *
+     * @param pack  图片集的包, 可以为{@code null}
+     * @param names 可能的文件名
+     * @return 包中第一个存在的配置文件的条目名称, 都不存在时返回{@code null}
+     */
+    private static String findPackedConfig(final ImageSetPack pack, final String... names) {
+        if (pack == null) {
+            return null;
+        }
+        for (final String name : names) {
+            final String entry = CONFIG_DIRECTORY.getFileName() + "/" + name;
+            if (pack.contains(entry)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
      * Loads the configuration files for the given image set.
      *
      * @param imageSet the image set to load
@@ -261,9 +301,16 @@ public class Main {
                 actionsFile = filePath.resolve("1.xml");
             }
 
-            log.log(Level.INFO, "Reading action file \"{0}\" for image set \"{1}\"", new Object[]{actionsFile, imageSet});
+            // 图片集的包相当于<imageSetName>目录, 包中的配置文件优先
+            final ImageSetPack pack = ImageSetPack.get(imageSet);
+            final String packedActions = findPackedConfig(pack, "actions.xml", "one.xml", "1.xml");
+
+            log.log(Level.INFO, "Reading action file \"{0}\" for image set \"{1}\"", new Object[]{packedActions != null ? pack + ":" + packedActions : actionsFile, imageSet});
             // 解析actions.xml文件
-            final Document actions = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(Files.newInputStream(actionsFile));
+            final Document actions;
+            try (InputStream input = packedActions != null ? pack.open(packedActions) : Files.newInputStream(actionsFile)) {
+                actions = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(input);
+            }
             Configuration configuration = new Configuration();
             configuration.load(new Entry(actions.getDocumentElement()), imageSet); // 加载actions配置
             // Save the schema for the actions file so we can use it later
@@ -295,10 +342,13 @@ public class Main {
                 behaviorsFile = filePath.resolve("2.xml");
             }
 
-            log.log(Level.INFO, "Reading behavior file \"{0}\" for image set \"{1}\"", new Object[]{behaviorsFile, imageSet});
+            final String packedBehaviors = findPackedConfig(pack, "behaviors.xml", "behavior.xml", "two.xml", "2.xml");
+            log.log(Level.INFO, "Reading behavior file \"{0}\" for image set \"{1}\"", new Object[]{packedBehaviors != null ? pack + ":" + packedBehaviors : behaviorsFile, imageSet});
 
-            final Document behaviors = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(
-                    Files.newInputStream(behaviorsFile));
+            final Document behaviors;
+            try (InputStream input = packedBehaviors != null ? pack.open(packedBehaviors) : Files.newInputStream(behaviorsFile)) {
+                behaviors = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(input);
+            }
 
             configuration.load(new Entry(behaviors.getDocumentElement()), imageSet);
 
@@ -316,10 +366,14 @@ public class Main {
                 infoFile = filePath.resolve("info.xml");
             }
 
-            if (Files.exists(infoFile)) {
-                log.log(Level.INFO, "Reading information file \"{0}\" for image set \"{1}\"", new Object[]{infoFile, imageSet});
+            final String packedInfo = findPackedConfig(pack, "info.xml");
+            if (packedInfo != null || Files.exists(infoFile)) {
+                log.log(Level.INFO, "Reading information file \"{0}\" for image set \"{1}\"", new Object[]{packedInfo != null ? pack + ":" + packedInfo : infoFile, imageSet});
 
-                final Document information = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(Files.newInputStream(infoFile));
+                final Document information;
+                try (InputStream input = packedInfo != null ? pack.open(packedInfo) : Files.newInputStream(infoFile)) {
+                    information = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(input);
+                }
 
                 configuration.load(new Entry(information.getDocumentElement()), imageSet);
             }
@@ -327,6 +381,8 @@ public class Main {
 
             configuration.validate();
             configurations.put(imageSet, configuration);
+            log.log(Level.INFO, "Image cache after loading image set \"{0}\": {1}", new Object[]{imageSet, ImagePairs.getStatistics()});
+            log.log(Level.INFO, "Script compile cache after loading image set \"{0}\": {1}", new Object[]{imageSet, Expression.getStatistics()});
 
 
             ArrayList<String> childMascots = new ArrayList<>();
@@ -524,7 +580,7 @@ public class Main {
                         
                         // 下面开始增加弹出菜单的下拉项
                         // "禁止克隆" 菜单项
-                        final JCheckBoxMenuItem breedingMenu = new JCheckBoxMenuItem(languageBundle.getString("BreedingCloning"), Boolean.parseBoolean(properties.getProperty("Breeding", "true")));
+                        final JCheckBoxMenuItem breedingMenu = new JCheckBoxMenuItem(languageBundle.getString("BreedingCloning"), settings.isBreeding());
                         breedingMenu.addItemListener(e -> {
                             breedingMenu.setState(toggleBooleanSetting("Breeding", true)); // 把Breeding配置设为false
                             updateConfigFile(); // 更新配置文件到本地
@@ -533,7 +589,7 @@ public class Main {
                         behaviourPopup.add(breedingMenu);
 
                         // "禁止临时生成物" 菜单项
-                        final JCheckBoxMenuItem transientMenu = new JCheckBoxMenuItem(languageBundle.getString("BreedingTransient"), Boolean.parseBoolean(properties.getProperty("Transients", "true")));
+                        final JCheckBoxMenuItem transientMenu = new JCheckBoxMenuItem(languageBundle.getString("BreedingTransient"), settings.isTransients());
                         transientMenu.addItemListener(e -> {
                             transientMenu.setState(toggleBooleanSetting("Transients", true));
                             updateConfigFile();
@@ -542,7 +598,7 @@ public class Main {
                         behaviourPopup.add(transientMenu);
 
                         // "禁止变换" 菜单项
-                        final JCheckBoxMenuItem transformationMenu = new JCheckBoxMenuItem(languageBundle.getString("Transformation"), Boolean.parseBoolean(properties.getProperty("Transformation", "true")));
+                        final JCheckBoxMenuItem transformationMenu = new JCheckBoxMenuItem(languageBundle.getString("Transformation"), settings.isTransformation());
                         transformationMenu.addItemListener(e -> {
                             transformationMenu.setState(toggleBooleanSetting("Transformation", true));
                             updateConfigFile();
@@ -551,7 +607,7 @@ public class Main {
                         behaviourPopup.add(transformationMenu);
 
                         // "投掷窗口" menu item
-                        final JCheckBoxMenuItem throwingMenu = new JCheckBoxMenuItem(languageBundle.getString("ThrowingWindows"), Boolean.parseBoolean(properties.getProperty("Throwing", "true")));
+                        final JCheckBoxMenuItem throwingMenu = new JCheckBoxMenuItem(languageBundle.getString("ThrowingWindows"), settings.isThrowing());
                         throwingMenu.addItemListener(e -> {
                             throwingMenu.setState(toggleBooleanSetting("Throwing", true));
                             updateConfigFile();
@@ -560,7 +616,7 @@ public class Main {
                         behaviourPopup.add(throwingMenu);
 
                         // "静音" menu item
-                        final JCheckBoxMenuItem soundsMenu = new JCheckBoxMenuItem(languageBundle.getString("SoundEffects"), Boolean.parseBoolean(properties.getProperty("Sounds", "true")));
+                        final JCheckBoxMenuItem soundsMenu = new JCheckBoxMenuItem(languageBundle.getString("SoundEffects"), settings.isSounds());
                         soundsMenu.addItemListener(e -> {
                             boolean result = toggleBooleanSetting("Sounds", true);
                             soundsMenu.setState(result);
@@ -571,7 +627,7 @@ public class Main {
                         behaviourPopup.add(soundsMenu);
 
                         // "在屏幕间移动" menu item
-                        final JCheckBoxMenuItem multiscreenMenu = new JCheckBoxMenuItem(languageBundle.getString("Multiscreen"), Boolean.parseBoolean(properties.getProperty("Multiscreen", "true")));
+                        final JCheckBoxMenuItem multiscreenMenu = new JCheckBoxMenuItem(languageBundle.getString("Multiscreen"), settings.isMultiscreen());
                         multiscreenMenu.addItemListener(e -> {
                             multiscreenMenu.setState(toggleBooleanSetting("Multiscreen", true));
                             updateConfigFile();
@@ -646,8 +702,8 @@ public class Main {
                             NativeFactory.getInstance().getEnvironment().dispose();
                             NativeFactory.resetInstance();
                         }
-                        if (dialog.getEnvironmentReloadRequired() || dialog.getImageReloadRequired()) {
-                            // need to reload the shimeji as the images have rescaled
+                        if (dialog.getEnvironmentReloadRequired()) {
+                            // need to reload the shimeji as the environment has changed
                             boolean isExit = manager.isExitOnLastRemoved();
                             manager.setExitOnLastRemoved(false);
                             manager.disposeAll();
@@ -655,6 +711,7 @@ public class Main {
                             // Wipe all loaded data
                             ImagePairs.clear();
                             configurations.clear();
+                            MemoryPlanner.plan(imageSets);
 
                             // Load settings
                             for (String imageSet : imageSets) {
@@ -668,6 +725,11 @@ public class Main {
 
                             manager.setExitOnLastRemoved(isExit);
                         } else {
+                            if (dialog.getImageReloadRequired()) {
+                                // 图片在后台按新的缩放设置重新生成, 生成好之前 mascot 继续显示原来的图片
+                                MemoryPlanner.plan(imageSets);
+                                ImagePairs.applySettings();
+                            }
                             if (manager.isPaused()) {
                                 manager.togglePauseAll();
                             }
@@ -882,6 +944,9 @@ public class Main {
         try {
             mascot.setBehavior(getConfiguration(imageSet).buildNextBehavior(null, mascot));
             manager.add(mascot);
+            if (firstMascotCreated.compareAndSet(false, true)) {
+                log.log(Level.INFO, "First mascot created {0} ms after startup", ManagementFactory.getRuntimeMXBean().getUptime());
+            }
         } catch (final BehaviorInstantiationException e) {
             // Not sure why this says "first action" instead of "first behavior", but changing it would require changing all of the translations, so...
             log.log(Level.SEVERE, "Failed to initialize the first action for mascot \"" + mascot + "\"", e);
@@ -961,13 +1026,10 @@ public class Main {
      * @return boolean 设置后的配置值
      */
     private boolean toggleBooleanSetting(String propertyName, boolean defaultValue) {
-        if (Boolean.parseBoolean(properties.getProperty(propertyName, String.valueOf(defaultValue)))) {
-            properties.setProperty(propertyName, "false");
-            return false;
-        } else {
-            properties.setProperty(propertyName, "true");
-            return true;
-        }
+        final boolean value = !Boolean.parseBoolean(properties.getProperty(propertyName, String.valueOf(defaultValue)));
+        properties.setProperty(propertyName, String.valueOf(value));
+        updateSettings();
+        return value;
     }
 
     /**
@@ -1013,6 +1075,7 @@ public class Main {
         } else {
             properties.setProperty("DisabledBehaviours." + mascot.getImageSet(), list.toString().replace("[", "").replace("]", "").replace(", ", "/"));
         }
+        updateSettings();
 
         updateConfigFile();
     }
@@ -1036,6 +1099,7 @@ public class Main {
         if (newImageSets == null) {
             return;
         }
+        MemoryPlanner.plan(newImageSets);
 
         // I don't think there would be enough image sets chosen at any given
         // time for it to be worth using HashSet, but I might be wrong
@@ -1151,11 +1215,33 @@ public class Main {
         return this.properties;
     }
 
+    /**
+     * @return 当前的设置快照, 之后设置改变也不会变化
+     */
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 修改{@link #getProperties()}之后, 根据它生成新的设置快照并替换当前的快照
+     */
+    public synchronized void updateSettings() {
+        settings = Settings.fromProperties(properties, settings);
+    }
+
     public ResourceBundle getLanguageBundle() {
         return this.languageBundle;
     }
 
     public void exit() {
+        log.log(Level.INFO, "Script compile cache at exit: {0}", Expression.getStatistics());
+        if (ScriptProfiler.isEnabled()) {
+            try {
+                log.log(Level.INFO, "Script profile written to {0}", ScriptProfiler.dump().toAbsolutePath());
+            } catch (final IOException e) {
+                log.log(Level.WARNING, "Failed to write the script profile", e);
+            }
+        }
         this.manager.disposeAll();
         this.manager.stop();
         System.exit(0);
@@ -202,17 +202,19 @@ public class Mascot {
 
                     // Draw hotspots
                     g.setColor(Color.BLUE);
-                    Dimension imageSize = getImage().getSize();
+                    // Hotspots are defined on the uncropped canvas, so shift them by the crop offset
+                    Dimension canvasSize = getImage().getCanvasSize();
+                    Point offset = getImage().getOffset();
                     for (Hotspot hotspot : getHotspots()) {
                         Shape shape = hotspot.getShape();
                         if (shape instanceof Rectangle) {
                             Rectangle rectangle = (Rectangle) shape;
-                            int x = lookRight ? imageSize.width - rectangle.x - rectangle.width : rectangle.x;
-                            g.drawRect(x, rectangle.y, rectangle.width, rectangle.height);
+                            int x = lookRight ? canvasSize.width - rectangle.x - rectangle.width : rectangle.x;
+                            g.drawRect(x - offset.x, rectangle.y - offset.y, rectangle.width, rectangle.height);
                         } else if (shape instanceof Ellipse2D) {
                             Ellipse2D ellipse = (Ellipse2D) shape;
-                            double x = lookRight ? imageSize.width - ellipse.getX() - ellipse.getWidth() : ellipse.getX();
-                            g.drawOval((int) x, (int) ellipse.getY(), (int) ellipse.getWidth(), (int) ellipse.getHeight());
+                            double x = lookRight ? canvasSize.width - ellipse.getX() - ellipse.getWidth() : ellipse.getX();
+                            g.drawOval((int) x - offset.x, (int) ellipse.getY() - offset.y, (int) ellipse.getWidth(), (int) ellipse.getHeight());
                         }
                     }
 
@@ -256,6 +258,11 @@ public class Mascot {
      * @param event
      */
     private void mousePressed(final MouseEvent event) {
+        // 点在图片透明的像素上时不算点中了 mascot
+        if (!isVisibleAt(event.getPoint())) {
+            return;
+        }
+
         // Check for popup triggers in both mousePressed and mouseReleased
         // because it works differently on different systems
         if (event.isPopupTrigger()) {
@@ -281,8 +288,11 @@ public class Mascot {
     private void mouseReleased(final MouseEvent event) {
         // Check for popup triggers in both mousePressed and mouseReleased
         // because it works differently on different systems
+        // 拖动结束时鼠标可能停在透明的像素上, 所以只忽略在透明处弹出菜单
         if (event.isPopupTrigger()) {
-            SwingUtilities.invokeLater(() -> this.showPopup(event.getX(), event.getY()));
+            if (isVisibleAt(event.getPoint())) {
+                SwingUtilities.invokeLater(() -> this.showPopup(event.getX(), event.getY()));
+            }
         } else {
             if (!paused && behavior != null) {
                 try {
@@ -522,6 +532,15 @@ public class Mascot {
         }
     }
 
+    /**
+     * @param position 相对于窗口左上角的坐标
+     * @return 该位置是否落在当前图片可见的像素上, 没有图片时返回{@code false}
+     */
+    private boolean isVisibleAt(final Point position) {
+        final MascotImage image = this.image;
+        return image != null && image.isVisible(position.x, position.y);
+    }
+
     private void refreshCursor(Point position) {
         synchronized (hotspots) {
             boolean useHand = hotspots.stream().anyMatch(hotspot -> hotspot.contains(this, position) &&
@@ -561,7 +580,12 @@ public class Mascot {
             return;
         }
         // 如果image已经是当前 mascot 的 image 了，也直接返回
-        if (this.image != null && image != null && this.image.getImage().equals(image.getImage())) {
+        if (this.image == image) {
+            return;
+        }
+        // 相同像素的图片会被共用, 但中心和裁剪位置可能不同, 这时只需要更新image, 不用重新设置窗口的图片
+        if (this.image != null && image != null && this.image.getImage() == image.getImage()) {
+            this.image = image;
             return;
         }
 
@@ -0,0 +1,144 @@
+package com.group_finity.mascot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * 运行时频繁读取的设置项的快照, 创建后不再改变.
+ * <p>
+ * 原来每次读取都要从{@link Properties}中查找字符串再解析. 现在{@link Main}在设置改变后生成一个新的快照并整体替换,
+ * 读取的一方只读一次{@code volatile}引用, 也不会看到只改了一半的设置. 修改{@link Main#getProperties()}之后要调用{@link Main#updateSettings()}.
+ */
+public final class Settings {
+    private static final Logger log = Logger.getLogger(Settings.class.getName());
+
+    private static final String DISABLED_BEHAVIOURS = "DisabledBehaviours.";
+
+    private final boolean multiscreen;
+
+    private final boolean throwing;
+
+    private final boolean breeding;
+
+    private final boolean transients;
+
+    private final boolean transformation;
+
+    private final boolean sounds;
+
+    private final long imageCacheBudget;
+
+    /**
+     * 图片集 -> 被用户停用的行为. 没有改变的集合沿用上一个快照中的对象, 所以可以用{@code ==}判断是否改变
+     */
+    private final Map<String, Set<String>> disabledBehaviours;
+
+    private Settings(final Properties properties, final Settings previous) {
+        multiscreen = Boolean.parseBoolean(properties.getProperty("Multiscreen", "true"));
+        throwing = Boolean.parseBoolean(properties.getProperty("Throwing", "true"));
+        breeding = Boolean.parseBoolean(properties.getProperty("Breeding", "true"));
+        transients = Boolean.parseBoolean(properties.getProperty("Transients", "true"));
+        transformation = Boolean.parseBoolean(properties.getProperty("Transformation", "true"));
+        sounds = Boolean.parseBoolean(properties.getProperty("Sounds", "true"));
+        imageCacheBudget = parseImageCacheBudget(properties.getProperty("ImageCacheBudget"));
+
+        final Map<String, Set<String>> disabledBehaviours = new HashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(DISABLED_BEHAVIOURS)) {
+                continue;
+            }
+            final String imageSet = key.substring(DISABLED_BEHAVIOURS.length());
+            Set<String> names = Arrays.stream(properties.getProperty(key).split("/"))
+                    .filter(name -> !name.isEmpty()).collect(Collectors.toUnmodifiableSet());
+            if (previous != null && names.equals(previous.getDisabledBehaviours(imageSet))) {
+                names = previous.getDisabledBehaviours(imageSet);
+            }
+            disabledBehaviours.put(imageSet, names);
+        }
+        this.disabledBehaviours = Map.copyOf(disabledBehaviours);
+    }
+
+    private static long parseImageCacheBudget(final String budget) {
+        if (budget != null) {
+            try {
+                return Long.parseLong(budget.trim()) * 1024 * 1024;
+            } catch (NumberFormatException e) {
+                log.log(Level.WARNING, "Invalid ImageCacheBudget: {0}", budget);
+            }
+        }
+        return Runtime.getRuntime().maxMemory() / 2;
+    }
+
+    /**
+     * @param previous 上一个快照, 用于沿用没有改变的集合, 没有时为{@code null}
+     */
+    static Settings fromProperties(final Properties properties, final Settings previous) {
+        return new Settings(properties, previous);
+    }
+
+    /**
+     * @return 设置项{@code Multiscreen}, mascot 是否可以在屏幕间移动
+     */
+    public boolean isMultiscreen() {
+        return multiscreen;
+    }
+
+    /**
+     * @return 设置项{@code Throwing}, 是否可以拖动和投掷窗口
+     */
+    public boolean isThrowing() {
+        return throwing;
+    }
+
+    /**
+     * @return 设置项{@code Breeding}, 是否可以克隆
+     */
+    public boolean isBreeding() {
+        return breeding;
+    }
+
+    /**
+     * @return 设置项{@code Transients}, 是否可以生成临时的 mascot
+     */
+    public boolean isTransients() {
+        return transients;
+    }
+
+    /**
+     * @return 设置项{@code Transformation}, 是否可以变换
+     */
+    public boolean isTransformation() {
+        return transformation;
+    }
+
+    /**
+     * @return 设置项{@code Sounds}, 是否播放声音
+     */
+    public boolean isSounds() {
+        return sounds;
+    }
+
+    /**
+     * @return 设置项{@code ImageCacheBudget}, 图片对可以占用的字节数. 设置项的单位是MB, 默认为最大堆内存的一半
+     */
+    public long getImageCacheBudget() {
+        return imageCacheBudget;
+    }
+
+    /**
+     * @return 设置项{@code DisabledBehaviours.<imageSet>}中的行为, 不能修改
+     */
+    public Set<String> getDisabledBehaviours(final String imageSet) {
+        return disabledBehaviours.getOrDefault(imageSet, Set.of());
+    }
+
+    public boolean isBehaviourDisabled(final String imageSet, final String name) {
+        return getDisabledBehaviours(imageSet).contains(name);
+    }
+}
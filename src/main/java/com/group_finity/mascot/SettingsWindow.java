@@ -67,6 +67,8 @@ public class SettingsWindow extends JDialog {
         grpFilter.add(radFilterNearest);
         grpFilter.add(radFilterBicubic);
         grpFilter.add(radFilterHqx);
+        grpFilter.add(radFilterEpx);
+        grpFilter.add(radFilterXbr);
         Dictionary<Integer, JLabel> labelTable = IntStream.range(0, 9).boxed().collect(Collectors.toMap(index -> index * 10, index -> new JLabel(index + "x"), (a, b) -> b, Hashtable::new));
         sldScaling.setLabelTable(labelTable);
         sldScaling.setPaintLabels(true);
@@ -82,6 +84,10 @@ public class SettingsWindow extends JDialog {
             filter = "hqx";
         } else if (filterText.equalsIgnoreCase("bicubic")) {
             filter = "bicubic";
+        } else if (filterText.equalsIgnoreCase("epx")) {
+            filter = "epx";
+        } else if (filterText.equalsIgnoreCase("xbr")) {
+            filter = "xbr";
         }
         opacity = Double.parseDouble(properties.getProperty("Opacity", "1.0"));
         scaling = Double.parseDouble(properties.getProperty("Scaling", "1.0"));
@@ -97,6 +103,10 @@ public class SettingsWindow extends JDialog {
             radFilterBicubic.setSelected(true);
         } else if (filter.equals("hqx")) {
             radFilterHqx.setSelected(true);
+        } else if (filter.equals("epx")) {
+            radFilterEpx.setSelected(true);
+        } else if (filter.equals("xbr")) {
+            radFilterXbr.setSelected(true);
         } else {
             radFilterNearest.setSelected(true);
         }
@@ -155,6 +165,8 @@ public class SettingsWindow extends JDialog {
         radFilterNearest.setText(language.getString("NearestNeighbour"));
         radFilterHqx.setText(language.getString("Filter"));
         radFilterBicubic.setText(language.getString("BicubicFilter"));
+        radFilterEpx.setText(language.getString("EpxFilter"));
+        radFilterXbr.setText(language.getString("XbrFilter"));
         pnlInteractiveTabs.setTitleAt(0, language.getString("Whitelist"));
         pnlInteractiveTabs.setTitleAt(1, language.getString("Blacklist"));
         btnAddInteractiveWindow.setText(language.getString("Add"));
@@ -259,6 +271,8 @@ public class SettingsWindow extends JDialog {
         radFilterNearest = new JRadioButton();
         radFilterBicubic = new JRadioButton();
         radFilterHqx = new JRadioButton();
+        radFilterEpx = new JRadioButton();
+        radFilterXbr = new JRadioButton();
         sldOpacity = new JSlider();
         lblOpacity = new JLabel();
         chkAlwaysShowInformationScreen = new JCheckBox();
@@ -399,6 +413,12 @@ public class SettingsWindow extends JDialog {
         radFilterHqx.setText("hqx");
         radFilterHqx.addItemListener(this::radFilterItemStateChanged);
 
+        radFilterEpx.setText("EPX");
+        radFilterEpx.addItemListener(this::radFilterItemStateChanged);
+
+        radFilterXbr.setText("xBR");
+        radFilterXbr.addItemListener(this::radFilterItemStateChanged);
+
         sldOpacity.setMajorTickSpacing(10);
         sldOpacity.setMinorTickSpacing(5);
         sldOpacity.setPaintLabels(true);
@@ -431,7 +451,9 @@ public class SettingsWindow extends JDialog {
                                                                 .addComponent(radFilterNearest)
                                                                 .addComponent(sldScaling, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
                                                                 .addComponent(radFilterBicubic)
-                                                                .addComponent(radFilterHqx))))
+                                                                .addComponent(radFilterHqx)
+                                                                .addComponent(radFilterEpx)
+                                                                .addComponent(radFilterXbr))))
                                         .addComponent(lblOpacity)
                                         .addComponent(chkAlwaysShowInformationScreen))
                                 .addContainerGap(26, Short.MAX_VALUE))
@@ -459,6 +481,10 @@ public class SettingsWindow extends JDialog {
                                 .addComponent(radFilterBicubic)
                                 .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED)
                                 .addComponent(radFilterHqx)
+                                .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(radFilterEpx)
+                                .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED)
+                                .addComponent(radFilterXbr)
                                 .addContainerGap(40, Short.MAX_VALUE))
         );
 
@@ -885,6 +911,7 @@ public class SettingsWindow extends JDialog {
         } catch (IOException e) {
             log.log(Level.SEVERE, "Failed to save settings", e);
         }
+        Main.getInstance().updateSettings();
 
         dispose();
     }// GEN-LAST:event_btnDoneActionPerformed
@@ -938,6 +965,10 @@ public class SettingsWindow extends JDialog {
                 filter = "nearest";
             } else if (source == radFilterHqx) {
                 filter = "hqx";
+            } else if (source == radFilterEpx) {
+                filter = "epx";
+            } else if (source == radFilterXbr) {
+                filter = "xbr";
             } else {
                 filter = "bicubic";
             }
@@ -953,9 +984,13 @@ public class SettingsWindow extends JDialog {
                 scaling = sldScaling.getValue() / 10.0;
                 if (scaling == 2 || scaling == 3 || scaling == 4 || scaling == 6 || scaling == 8) {
                     radFilterHqx.setEnabled(true);
+                    radFilterEpx.setEnabled(true);
+                    radFilterXbr.setEnabled(true);
                 } else {
                     radFilterHqx.setEnabled(false);
-                    if (filter.equals("hqx")) {
+                    radFilterEpx.setEnabled(false);
+                    radFilterXbr.setEnabled(false);
+                    if (filter.equals("hqx") || filter.equals("epx") || filter.equals("xbr")) {
                         radFilterNearest.setSelected(true);
                     }
                 }
@@ -1213,8 +1248,10 @@ public class SettingsWindow extends JDialog {
     private JPanel pnlWhitelistTab;
     private JPanel pnlWindowMode;
     private JRadioButton radFilterBicubic;
+    private JRadioButton radFilterEpx;
     private JRadioButton radFilterHqx;
     private JRadioButton radFilterNearest;
+    private JRadioButton radFilterXbr;
     private Box.Filler rigid1;
     private Box.Filler rigid2;
     private Box.Filler rigid3;
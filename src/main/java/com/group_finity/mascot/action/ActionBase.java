@@ -6,7 +6,6 @@ import com.group_finity.mascot.animation.Hotspot;
 import com.group_finity.mascot.environment.MascotEnvironment;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
-import com.group_finity.mascot.script.Variable;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.util.List;
@@ -200,17 +199,21 @@ public abstract class ActionBase implements Action {
     }
 
     protected void putVariable(final String key, final Object value) {
-        synchronized (getVariables()) {
-            getVariables().put(key, value);
-        }
+        getVariables().put(key, value);
+    }
+
+    /**
+     * 保存一个数字变量. 数字原地写入变量表的槽位, 每帧更新时不装箱
+     */
+    protected void putVariable(final String key, final double value) {
+        getVariables().put(key, value);
     }
 
     protected <T> T eval(final String name, final Class<T> type, final T defaultValue) throws VariableException {
-        synchronized (getVariables()) {
-            final Variable variable = getVariables().getRawMap().get(name);
-            if (variable != null) {
-                return type.cast(variable.get(getVariables()));
-            }
+        // 变量表的读取不需要加锁
+        final int slot = getVariables().slot(name);
+        if (getVariables().isSet(slot)) {
+            return type.cast(getVariables().get(slot));
         }
 
         return defaultValue;
@@ -0,0 +1,39 @@
+package com.group_finity.mascot.action;
+
+import java.util.List;
+import java.util.ResourceBundle;
+
+import com.group_finity.mascot.animation.Animation;
+import com.group_finity.mascot.script.VariableMap;
+
+/**
+ * Creates instances of an {@code Embedded} action class without reflection.
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader}: a module declares
+ * {@code provides com.group_finity.mascot.action.ActionFactory with ...}, and a jar on the class path lists the
+ * implementation in {@code META-INF/services/com.group_finity.mascot.action.ActionFactory}. Classes without a
+ * factory are still supported through their public constructors.
+ *
+ * @author Shimeji-ee Group
+ */
+public interface ActionFactory {
+
+    /**
+     * Returns the fully qualified class name this factory creates, matching the {@code Class} attribute of
+     * {@code Embedded} actions in the configuration.
+     *
+     * @return the action class name
+     */
+    String getClassName();
+
+    /**
+     * Creates a new action. Called every time a behavior using the action starts, so it should do no more than
+     * call a constructor.
+     *
+     * @param schema the schema of the configuration
+     * @param animations the action's animations, created for this instance
+     * @param variables the action's parameters, created for this instance
+     * @return the new action
+     */
+    Action create(ResourceBundle schema, List<Animation> animations, VariableMap variables);
+}
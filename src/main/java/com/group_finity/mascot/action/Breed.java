@@ -7,6 +7,7 @@ import com.group_finity.mascot.exception.BehaviorInstantiationException;
 import com.group_finity.mascot.exception.CantBeAliveException;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -55,13 +56,13 @@ public class Breed extends Animate {
         }
 
         void initScaling() {
-            scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+            scaling = ImagePairs.getScaling();
         }
 
         boolean isEnabled() throws VariableException {
             return getBornTransient() ?
-                    Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Transients", "true")) :
-                    Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Breeding", "true"));
+                    Main.getInstance().getSettings().isTransients() :
+                    Main.getInstance().getSettings().isBreeding();
         }
 
         boolean isIntervalFrame() throws VariableException {
@@ -7,6 +7,7 @@ import com.group_finity.mascot.exception.BehaviorInstantiationException;
 import com.group_finity.mascot.exception.CantBeAliveException;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -74,7 +75,7 @@ public class ComplexJump extends ActionBase {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
 
         for (String characteristic : getCharacteristics().split(",")) {
             if (characteristic.equals(getSchema().getString("Breed"))) {
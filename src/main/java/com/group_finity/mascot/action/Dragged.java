@@ -1,10 +1,11 @@
 package com.group_finity.mascot.action;
 
-import com.group_finity.mascot.Main;
 import com.group_finity.mascot.Mascot;
 import com.group_finity.mascot.animation.Animation;
 import com.group_finity.mascot.environment.Location;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
+import com.group_finity.mascot.image.MascotImage;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -53,7 +54,7 @@ public class Dragged extends ActionBase {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
 
         footX = getEnvironment().getCursor().getX() + (int) Math.round(getOffsetX() * scaling);
         setTimeToRegist(250);
@@ -75,8 +76,10 @@ public class Dragged extends ActionBase {
         int offsetX = (int) Math.round(getOffsetX() * scaling);
         int offsetY = (int) Math.round(getOffsetY() * scaling);
         if (getOffsetType().equals(getSchema().getString("Origin"))) {
-            offsetX = getMascot().getImage().getCenter().x - offsetX;
-            offsetY = getMascot().getImage().getCenter().y - offsetY;
+            // The offset is measured from the top left of the uncropped image
+            final MascotImage image = getMascot().getImage();
+            offsetX = image.getCenter().x + image.getOffset().x - offsetX;
+            offsetY = image.getCenter().y + image.getOffset().y - offsetY;
         }
 
         if (Math.abs(cursor.getX() - getMascot().getAnchor().x + offsetX) >= 5) {
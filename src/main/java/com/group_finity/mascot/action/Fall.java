@@ -1,11 +1,11 @@
 package com.group_finity.mascot.action;
 
-import com.group_finity.mascot.Main;
 import com.group_finity.mascot.Mascot;
 import com.group_finity.mascot.animation.Animation;
 import com.group_finity.mascot.environment.MascotEnvironment;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -65,7 +65,7 @@ public class Fall extends ActionBase {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
 
         // TODO Deal with the below issue.
         // Shimejis start falling much more quickly than they should when released by the cursor, due to the scaling being used here.
@@ -37,7 +37,7 @@ public class FallWithIE extends Fall {
 
     @Override
     public boolean hasNext() throws VariableException {
-        if (!Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Throwing", "true"))) {
+        if (!Main.getInstance().getSettings().isThrowing()) {
             return false;
         }
 
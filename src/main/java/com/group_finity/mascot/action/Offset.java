@@ -1,6 +1,7 @@
 package com.group_finity.mascot.action;
 
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -35,7 +36,7 @@ public class Offset extends InstantAction {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
     } */
 
     @Override
@@ -1,10 +1,11 @@
 package com.group_finity.mascot.action;
 
-import com.group_finity.mascot.Main;
 import com.group_finity.mascot.Mascot;
 import com.group_finity.mascot.animation.Animation;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
+import com.group_finity.mascot.image.MascotImage;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.util.List;
@@ -40,14 +41,16 @@ public class Regist extends ActionBase {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
     }
 
     @Override
     public boolean hasNext() throws VariableException {
         int offsetX = (int) Math.round(getOffsetX() * scaling);
         if (getOffsetType().equals(getSchema().getString("Origin"))) {
-            offsetX = getMascot().getImage().getCenter().x - offsetX;
+            // The offset is measured from the top left of the uncropped image
+            final MascotImage image = getMascot().getImage();
+            offsetX = image.getCenter().x + image.getOffset().x - offsetX;
         }
 
         final boolean moved = Math.abs(getEnvironment().getCursor().getX() - getMascot().getAnchor().x + offsetX) >= 5;
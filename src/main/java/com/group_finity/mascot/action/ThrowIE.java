@@ -6,6 +6,7 @@ import com.group_finity.mascot.animation.Animation;
 import com.group_finity.mascot.environment.Area;
 import com.group_finity.mascot.exception.LostGroundException;
 import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.image.ImagePairs;
 import com.group_finity.mascot.script.VariableMap;
 
 import java.awt.*;
@@ -46,13 +47,13 @@ public class ThrowIE extends Animate {
     public void init(final Mascot mascot) throws VariableException {
         super.init(mascot);
 
-        scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
+        scaling = ImagePairs.getScaling();
         activeWindowId = getEnvironment().getActiveWindowId();
     }
 
     @Override
     public boolean hasNext() throws VariableException {
-        if (!Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Throwing", "true"))) {
+        if (!Main.getInstance().getSettings().isThrowing()) {
             return false;
         }
 
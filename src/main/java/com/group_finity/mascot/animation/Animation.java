@@ -16,6 +16,8 @@ public class Animation {
     private final Pose[] poses;
     private final Hotspot[] hotspots;
     private final boolean turn;
+    /**所有{@link Pose}的持续时长之和 */
+    private final int duration;
 
     public Animation(final Variable condition, final Pose[] poses, final Hotspot[] hotspots, final boolean turn) {
         if (poses.length == 0) {
@@ -26,6 +28,7 @@ public class Animation {
         this.poses = poses;
         this.hotspots = hotspots;
         this.turn = turn;
+        duration = Arrays.stream(poses).mapToInt(Pose::getDuration).sum();
     }
 
     /**
@@ -63,7 +66,7 @@ public class Animation {
     }
 
     public int getDuration() {
-        return Arrays.stream(poses).mapToInt(Pose::getDuration).sum();
+        return duration;
     }
 
     public Hotspot[] getHotspots() {
@@ -1,7 +1,11 @@
 package com.group_finity.mascot.animation;
 
 import com.group_finity.mascot.Mascot;
+import com.group_finity.mascot.image.ImagePairs;
+import com.group_finity.mascot.image.MascotImage;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
 /**
  * <p>
  * 代表了一个{@code Mascot}上可点击的区域, 以及当用户的这个区域交互时可执行的{@code Behavior}
@@ -9,27 +13,97 @@ import java.awt.*;
 public class Hotspot {
     private final String behaviour;
 
+    /**
+     * 区域的形状, 以原图片的像素为单位
+     */
     private final Shape shape;
 
+    /**
+     * 按缩放率换算后的形状, 以及换算时使用的缩放率. 缩放率改变后在下次使用时重新换算
+     */
+    private volatile ScaledShape scaledShape;
+
+    private static final class ScaledShape {
+        private final double scaling;
+
+        private final Shape shape;
+
+        private ScaledShape(final double scaling, final Shape shape) {
+            this.scaling = scaling;
+            this.shape = shape;
+        }
+    }
+
     public Hotspot(String behaviour, Shape shape) {
         this.behaviour = behaviour;
         this.shape = shape;
     }
 
+    /**
+     * 判断窗口中的一个点是否在这个区域里. 只有点在图片可见的像素上时才算, 点到透明的地方不会触发区域.
+     * 鼠标移动时每个事件都会调用, 所以这里不创建任何对象
+     * @param mascot 窗口所属的{@code Mascot}
+     * @param point 相对于窗口左上角的坐标
+     */
     public boolean contains(Mascot mascot, Point point) {
+        int x = point.x;
+        final int y;
+        final int width;
+
+        final MascotImage image = mascot.getImage();
+        if (image != null) {
+            if (!image.isVisible(point.x, point.y)) {
+                return false;
+            }
+            // 图片可能裁剪过, 而区域是按原画布定义的, 先换算回原画布的坐标
+            x += image.getOffset().x;
+            y = point.y + image.getOffset().y;
+            width = image.getCanvasSize().width;
+        } else {
+            y = point.y;
+            width = mascot.getBounds().width;
+        }
+
         // 如果面向右边，就翻转过来
         if (mascot.isLookRight()) {
-            point = new Point(mascot.getBounds().width - point.x, point.y);
+            x = width - x;
         }
 
-        return shape.contains(point);
+        return getShape().contains(x, y);
     }
 
     public String getBehaviour() {
         return behaviour;
     }
 
+    /**
+     * @return 按当前缩放率换算后的区域形状
+     */
     public Shape getShape() {
-        return shape;
+        final double scaling = ImagePairs.getScaling();
+        ScaledShape scaled = scaledShape;
+        if (scaled == null || scaled.scaling != scaling) {
+            scaled = new ScaledShape(scaling, scale(shape, scaling));
+            scaledShape = scaled;
+        }
+        return scaled.shape;
+    }
+
+    private static Shape scale(final Shape shape, final double scaling) {
+        if (scaling == 1) {
+            return shape;
+        }
+        // 矩形和椭圆按整数像素取整, 与图片的缩放保持一致
+        if (shape instanceof Rectangle) {
+            final Rectangle rectangle = (Rectangle) shape;
+            return new Rectangle((int) Math.round(rectangle.x * scaling), (int) Math.round(rectangle.y * scaling),
+                    (int) Math.round(rectangle.width * scaling), (int) Math.round(rectangle.height * scaling));
+        }
+        if (shape instanceof Ellipse2D) {
+            final Ellipse2D ellipse = (Ellipse2D) shape;
+            return new Ellipse2D.Float(Math.round(ellipse.getX() * scaling), Math.round(ellipse.getY() * scaling),
+                    Math.round(ellipse.getWidth() * scaling), Math.round(ellipse.getHeight() * scaling));
+        }
+        return AffineTransform.getScaleInstance(scaling, scaling).createTransformedShape(shape);
     }
 }
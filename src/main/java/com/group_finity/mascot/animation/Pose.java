@@ -17,7 +17,10 @@ import com.group_finity.mascot.image.ImagePairs;
 public class Pose {
     private final Path image; // 图片路径
     private final Path rightImage;
-    private final int dx; 
+    /**
+     * 每帧的位移, 以原图片的像素为单位, 播放时按当前的缩放率换算
+     */
+    private final int dx;
     private final int dy;
     private final int duration; // 姿势持续的时间
     private final String sound;
@@ -57,7 +60,7 @@ public class Pose {
 
     @Override
     public String toString() {
-        return "Pose(" + (this.getImage() == null ? "" : this.getImage()) + "," + dx + "," + dy + "," + duration + ", " + sound + ")";
+        return "Pose(" + this.getImageName() + "," + dx + "," + dy + "," + duration + ", " + sound + ")";
     }
 
     /**
@@ -65,9 +68,13 @@ public class Pose {
      * @param mascot
      */
     public void next(final Mascot mascot) {
+        final int dx = getDx();
         mascot.setAnchor(new Point(mascot.getAnchor().x + (mascot.isLookRight() ? -dx : dx),
-                mascot.getAnchor().y + dy));
-        mascot.setImage(ImagePairs.getImage(this.getImageName(), mascot.isLookRight()));
+                mascot.getAnchor().y + getDy()));
+        // 图片在后台加载, 还没加载好时继续显示当前的图片; 刚创建的 mascot 会在第一帧加载好后才显示出来
+        if (ImagePairs.isReady(this.getImageName())) {
+            mascot.setImage(ImagePairs.getImage(this.getImageName(), mascot.isLookRight()));
+        }
         mascot.setSound(sound);
     }
 
@@ -83,12 +90,26 @@ public class Pose {
         return ImagePairs.getImagePair(this.getImageName());
     }
 
+    /**
+     * @return 按当前缩放率换算后的水平位移
+     */
     public int getDx() {
-        return dx;
+        return scale(dx);
     }
 
+    /**
+     * @return 按当前缩放率换算后的垂直位移
+     */
     public int getDy() {
-        return dy;
+        return scale(dy);
+    }
+
+    /**
+     * 按当前的缩放率换算位移. 不为0的位移缩小后至少保留1个像素, 以免动作在缩小后停住
+     */
+    private static int scale(final int move) {
+        final double scaling = ImagePairs.getScaling();
+        return Math.abs(move) > 0 && Math.abs(move * scaling) < 1 ? move > 0 ? 1 : -1 : (int) Math.round(move * scaling);
     }
 
     public int getDuration() {
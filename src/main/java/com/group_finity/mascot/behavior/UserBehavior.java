@@ -67,11 +67,31 @@ public class UserBehavior implements Behavior {
                     throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("FailedInitialiseFollowingBehaviourErrorMessage"), e);
                 }
             }
+        } catch (final ScriptTimeoutException e) {
+            suspend(e);
         } catch (final VariableException e) {
             throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("VariableEvaluationErrorMessage"), e);
         }
     }
 
+    /**
+     * 这个行为中的脚本超时: 停用这个行为, 换成下一个行为
+     */
+    private void suspend(final ScriptTimeoutException e) throws CantBeAliveException {
+        configuration.suspendBehavior(name, mascot, e);
+
+        // 下落是找不到可用的行为时的后备, 停用后无法再换成别的行为
+        if (name.equals(configuration.getSchema().getString(BEHAVIOURNAME_FALL))) {
+            throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("VariableEvaluationErrorMessage"), e);
+        }
+
+        try {
+            mascot.setBehavior(configuration.buildNextBehavior(name, mascot));
+        } catch (final BehaviorInstantiationException ex) {
+            throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("FailedInitialiseFollowingBehaviourErrorMessage"), ex);
+        }
+    }
+
     @Override
     public synchronized void mousePressed(final MouseEvent event) throws CantBeAliveException {
         // 处理鼠标左键的点击事件
@@ -183,7 +203,7 @@ public class UserBehavior implements Behavior {
                             || getEnvironment().getScreen().getBottom() <= mascot.getBounds().getY()) {
                         log.log(Level.INFO, "Out of the screen bounds ({0}, {1})", new Object[]{mascot, this});
 
-                        if (Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Multiscreen", "true"))) {
+                        if (Main.getInstance().getSettings().isMultiscreen()) {
                             mascot.setAnchor(new Point((int) (Math.random() * (getEnvironment().getScreen().getRight() - getEnvironment().getScreen().getLeft())) + getEnvironment().getScreen().getLeft(),
                                     getEnvironment().getScreen().getTop() - 256));
                         } else {
@@ -217,6 +237,8 @@ public class UserBehavior implements Behavior {
             } catch (final BehaviorInstantiationException ex) {
                 throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("FailedFallingActionInitialiseErrorMessage"), ex);
             }
+        } catch (final ScriptTimeoutException e) {
+            suspend(e);
         } catch (final VariableException e) {
             throw new CantBeAliveException(Main.getInstance().getLanguageBundle().getString("VariableEvaluationErrorMessage"), e);
         }
@@ -1,6 +1,5 @@
 package com.group_finity.mascot.config;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -10,23 +9,46 @@ import com.group_finity.mascot.action.*;
 import com.group_finity.mascot.animation.Animation;
 import com.group_finity.mascot.animation.Pose;
 import com.group_finity.mascot.exception.*;
+import com.group_finity.mascot.script.Expression;
+import com.group_finity.mascot.script.ScriptProfiler;
 import com.group_finity.mascot.script.Variable;
 import com.group_finity.mascot.script.VariableMap;
 
 /**
  * 从XML文件中加载动作, 一个{@code Action}节点对应一个{@code ActionBuilder}，它会调用 {@link AnimationBuilder} 用于加载Action节点的{@code Animation}子节点,
  * 它有一串有序的 {@link Pose} 组成, 每个{@code Pose}节点包含一对图片、图片坐标、持续时长、音频
+ * <p>
+ * 动作的类型、参数和动画在加载时就解析好, 作为之后所有实例的模板. 每次切换行为创建动作时只生成实例自己的可变状态:
+ * 变量表、脚本的{@link Variable}和动画的条件.
  */
 public class ActionBuilder implements IActionBuilder {
     private static final Logger log = Logger.getLogger(ActionBuilder.class.getName());
+
+    /**
+     * {@code type}属性对应的动作类型
+     */
+    private enum Kind {
+        EMBEDDED, MOVE, STAY, ANIMATE, SEQUENCE, SELECT
+    }
+
     /**当期Action节点的type属性 */
     private final String type;
+    /**{@link #type}对应的动作类型, 未知的类型为{@code null}, 创建时报错 */
+    private final Kind kind;
+    /**{@code Embedded}动作的工厂, 在{@link #validate()}中查找 */
+    private volatile ActionFactory factory;
     /**当期Action节点的name属性 */
     private final String name;
     /**当期Action节点的className属性 */
     private final String className;
     /**参数表 */
     private final Map<String, String> params = new LinkedHashMap<>();
+    /**这个动作创建的所有变量表共用的变量名布局 */
+    private final VariableMap.Layout layout;
+    /**{@link #params}在{@link #layout}中的下标, 与{@link #paramExpressions}一一对应 */
+    private final int[] paramSlots;
+    /**{@link #params}的值编译后的表达式 */
+    private final Expression[] paramExpressions;
     /**用于生成Animation子节点的AnimationBuilder列表 */
     private final List<AnimationBuilder> animationBuilders = new ArrayList<>();
     /**用于生成Action子节点的IActionBuilder列表 */
@@ -39,11 +61,28 @@ public class ActionBuilder implements IActionBuilder {
         name = actionNode.getAttribute(schema.getString("Name"));
         type = actionNode.getAttribute(schema.getString("Type"));
         className = actionNode.getAttribute(schema.getString("Class"));
+        layout = new VariableMap.Layout(ScriptProfiler.owner(imageSet, name));
+        kind = type == null ? null
+                : type.equals(schema.getString("Embedded")) ? Kind.EMBEDDED
+                : type.equals(schema.getString("Move")) ? Kind.MOVE
+                : type.equals(schema.getString("Stay")) ? Kind.STAY
+                : type.equals(schema.getString("Animate")) ? Kind.ANIMATE
+                : type.equals(schema.getString("Sequence")) ? Kind.SEQUENCE
+                : type.equals(schema.getString("Select")) ? Kind.SELECT
+                : null;
 
         log.log(Level.FINE, "Loading action: {0}", this);
 
         try {
             params.putAll(actionNode.getAttributes());
+            // 参数在创建动作时才会用到, 先编译好并分配下标, 之后 createVariables 只需要为每个脚本生成 Variable
+            paramSlots = new int[params.size()];
+            paramExpressions = new Expression[params.size()];
+            int index = 0;
+            for (final Map.Entry<String, String> param : params.entrySet()) {
+                paramSlots[index] = layout.slot(param.getKey());
+                paramExpressions[index++] = Expression.parse(param.getValue());
+            }
             // 遍历每个Action节点的Animation子节点, Animation子节点里是一串按顺序排列的图片
             for (final Entry node : actionNode.selectChildren(schema.getString("Animation"))) {
                 animationBuilders.add(new AnimationBuilder(schema, node, imageSet));
@@ -73,6 +112,9 @@ public class ActionBuilder implements IActionBuilder {
     @Override
     public Action buildAction(final Map<String, String> params) throws ActionInstantiationException {
         try {
+            // Start loading this action's frames in the background; child actions do the same when they are built
+            animationBuilders.forEach(AnimationBuilder::prefetchImages);
+
             // Create Variable Map
             final VariableMap variables = this.createVariables(params);
 
@@ -82,47 +124,27 @@ public class ActionBuilder implements IActionBuilder {
             // Create Child Actions
             final List<Action> actions = this.createActions();
 
-            if (type.equals(schema.getString("Embedded"))) {
+            if (kind == Kind.EMBEDDED) {
+                ActionFactory factory = this.factory;
+                if (factory == null) {
+                    // 没有经过 validate() 的配置
+                    factory = resolveFactory();
+                    this.factory = factory;
+                }
                 try {
-                    @SuppressWarnings("unchecked")
-                    // 根据当前Action节点的className属性，获取对应的类
-                    final Class<? extends Action> cls = (Class<? extends Action>) Class.forName(className);
-                    try {
-                        try {
-                            // 返回这几个类的构造器？
-                            return cls.getConstructor(ResourceBundle.class, List.class, VariableMap.class).newInstance(schema, animations, variables);
-                        } catch (IllegalAccessException | IllegalArgumentException | InstantiationException |
-                                 NoSuchMethodException | SecurityException | InvocationTargetException e) {
-                            // TODO: handle exception
-                        }
-                        return cls.getConstructor(ResourceBundle.class, VariableMap.class).newInstance(schema, variables);
-                    } catch (IllegalAccessException | IllegalArgumentException | InstantiationException |
-                             NoSuchMethodException | SecurityException | InvocationTargetException e) {
-                        // NOTE There seems to be no constructor, so move on to the next
-                    }
-                    return cls.getConstructor().newInstance();
-                } catch (final InstantiationException e) {
-                    throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("FailedClassActionInitialiseErrorMessage") + "(" + this + ")", e);
-                } catch (final IllegalAccessException e) {
-                    throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("CannotAccessClassActionErrorMessage") + "(" + this + ")", e);
-                } catch (final ClassNotFoundException e) {
-                    throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("ClassNotFoundErrorMessage") + "(" + this + ")", e);
-                } catch (NoSuchMethodException e) {
-                    // TODO Get translations for the following error message
-                    throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("ClassConstructorNotFoundErrorMessage") + "(" + this + ")", e);
-                } catch (InvocationTargetException e) {
-                    // TODO Think of a unique error message for this without wording it confusingly
+                    return factory.create(schema, animations, variables);
+                } catch (final RuntimeException e) {
                     throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("FailedClassActionInitialiseErrorMessage") + "(" + this + ")", e);
                 }
-            } else if (type.equals(schema.getString("Move"))) {
+            } else if (kind == Kind.MOVE) {
                 return new Move(schema, animations, variables);
-            } else if (type.equals(schema.getString("Stay"))) {
+            } else if (kind == Kind.STAY) {
                 return new Stay(schema, animations, variables);
-            } else if (type.equals(schema.getString("Animate"))) {
+            } else if (kind == Kind.ANIMATE) {
                 return new Animate(schema, animations, variables);
-            } else if (type.equals(schema.getString("Sequence"))) {
+            } else if (kind == Kind.SEQUENCE) {
                 return new Sequence(schema, variables, actions.toArray(new Action[0]));
-            } else if (type.equals(schema.getString("Select"))) {
+            } else if (kind == Kind.SELECT) {
                 return new Select(schema, variables, actions.toArray(new Action[0]));
             } else {
                 throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("UnknownActionTypeErrorMessage") + "(" + this + ")");
@@ -137,15 +159,44 @@ public class ActionBuilder implements IActionBuilder {
 
     @Override
     public void validate() throws ConfigurationException {
+        // 类不存在或没有可用的构造器时, 在加载配置时就报错, 而不是等到第一次使用这个动作
+        if (kind == Kind.EMBEDDED) {
+            try {
+                factory = resolveFactory();
+            } catch (final ActionInstantiationException e) {
+                log.log(Level.SEVERE, "Failed to resolve the class of action: " + this, e.getCause());
+                throw new ConfigurationException(e.getMessage(), e.getCause());
+            }
+        }
         for (final IActionBuilder ref : actionRefs) {
             ref.validate();
         }
     }
 
+    @Override
+    public void prefetchImages() {
+        animationBuilders.forEach(AnimationBuilder::prefetchImages);
+        actionRefs.forEach(IActionBuilder::prefetchImages);
+    }
+
+    private ActionFactory resolveFactory() throws ActionInstantiationException {
+        try {
+            return ActionFactories.get(className);
+        } catch (final ClassNotFoundException e) {
+            throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("ClassNotFoundErrorMessage") + "(" + this + ")", e);
+        } catch (final NoSuchMethodException e) {
+            throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("ClassConstructorNotFoundErrorMessage") + "(" + this + ")", e);
+        } catch (final IllegalAccessException e) {
+            throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("CannotAccessClassActionErrorMessage") + "(" + this + ")", e);
+        } catch (final ClassCastException e) {
+            throw new ActionInstantiationException(Main.getInstance().getLanguageBundle().getString("FailedClassActionInitialiseErrorMessage") + "(" + this + ")", e);
+        }
+    }
+
     public List<Action> createActions() throws ActionInstantiationException {
         final List<Action> actions = new ArrayList<>();
         for (final IActionBuilder ref : this.actionRefs) {
-            actions.add(ref.buildAction(new HashMap<>()));
+            actions.add(ref.buildAction(Map.of()));
         }
         return actions;
     }
@@ -159,9 +210,9 @@ public class ActionBuilder implements IActionBuilder {
     }
 
     private VariableMap createVariables(final Map<String, String> params) throws VariableException {
-        final VariableMap variables = new VariableMap();
-        for (final Map.Entry<String, String> param : this.params.entrySet()) {
-            variables.put(param.getKey(), Variable.parse(param.getValue()));
+        final VariableMap variables = new VariableMap(layout);
+        for (int i = 0; i < paramSlots.length; i++) {
+            variables.put(paramSlots[i], paramExpressions[i].toVariable());
         }
         for (final Map.Entry<String, String> param : params.entrySet()) {
             variables.put(param.getKey(), Variable.parse(param.getValue()));
@@ -0,0 +1,139 @@
+package com.group_finity.mascot.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.group_finity.mascot.action.Action;
+import com.group_finity.mascot.action.ActionFactory;
+import com.group_finity.mascot.animation.Animation;
+import com.group_finity.mascot.script.VariableMap;
+
+/**
+ * 按类名查找{@code Embedded}动作的{@link ActionFactory}.
+ * <p>
+ * 先查找通过{@link ServiceLoader}注册的工厂. 没有注册的类用它的公共构造器生成一个基于{@link MethodHandle}的工厂,
+ * 按以前的优先顺序选择构造器: {@code (ResourceBundle, List, VariableMap)}, {@code (ResourceBundle, VariableMap)}, 无参数.
+ * 结果按类名缓存, 多个图片集使用同一个类时只查找一次.
+ */
+final class ActionFactories {
+    private static final Logger log = Logger.getLogger(ActionFactories.class.getName());
+
+    /**
+     * 所有构造器都转换成这个类型, 调用时不需要区分
+     */
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Action.class, ResourceBundle.class, List.class, VariableMap.class);
+
+    private static final Map<String, ActionFactory> factories = new ConcurrentHashMap<>();
+
+    private ActionFactories() {
+    }
+
+    /**
+     * 第一次使用时才加载注册的工厂
+     */
+    private static final class Registered {
+        private static final Map<String, ActionFactory> FACTORIES = load();
+
+        private static Map<String, ActionFactory> load() {
+            final Map<String, ActionFactory> factories = new HashMap<>();
+            try {
+                for (final ActionFactory factory : ServiceLoader.load(ActionFactory.class)) {
+                    final ActionFactory previous = factories.putIfAbsent(factory.getClassName(), factory);
+                    if (previous != null) {
+                        log.log(Level.WARNING, "Ignoring action factory {0} for {1}, already provided by {2}",
+                                new Object[]{factory.getClass().getName(), factory.getClassName(), previous.getClass().getName()});
+                    } else {
+                        log.log(Level.FINE, "Registered action factory {0} for {1}", new Object[]{factory.getClass().getName(), factory.getClassName()});
+                    }
+                }
+            } catch (final ServiceConfigurationError e) {
+                log.log(Level.SEVERE, "Failed to load action factories", e);
+            }
+            return factories;
+        }
+    }
+
+    /**
+     * 通过{@link MethodHandle}调用构造器的工厂
+     */
+    private static final class ConstructorFactory implements ActionFactory {
+        private final String className;
+
+        /**
+         * 类型为{@link #FACTORY_TYPE}
+         */
+        private final MethodHandle constructor;
+
+        private ConstructorFactory(final String className, final MethodHandle constructor) {
+            this.className = className;
+            this.constructor = constructor;
+        }
+
+        @Override
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public Action create(final ResourceBundle schema, final List<Animation> animations, final VariableMap variables) {
+            try {
+                return (Action) constructor.invokeExact(schema, animations, variables);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    /**
+     * @param className 动作的类名
+     * @return 创建这个类的实例的工厂
+     * @throws ClassNotFoundException 类不存在
+     * @throws ClassCastException 类没有实现{@link Action}
+     * @throws NoSuchMethodException 没有可以使用的公共构造器
+     * @throws IllegalAccessException 构造器不能访问
+     */
+    static ActionFactory get(final String className) throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException {
+        ActionFactory factory = factories.get(className);
+        if (factory == null) {
+            factory = Registered.FACTORIES.get(className);
+            if (factory == null) {
+                factory = new ConstructorFactory(className, findConstructor(Class.forName(className).asSubclass(Action.class)));
+            }
+            final ActionFactory previous = factories.putIfAbsent(className, factory);
+            if (previous != null) {
+                factory = previous;
+            }
+        }
+        return factory;
+    }
+
+    private static MethodHandle findConstructor(final Class<? extends Action> cls) throws NoSuchMethodException, IllegalAccessException {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(cls, MethodType.methodType(void.class, ResourceBundle.class, List.class, VariableMap.class));
+        } catch (final NoSuchMethodException e) {
+            try {
+                // 不需要动画的动作
+                constructor = MethodHandles.dropArguments(
+                        lookup.findConstructor(cls, MethodType.methodType(void.class, ResourceBundle.class, VariableMap.class)), 1, List.class);
+            } catch (final NoSuchMethodException e2) {
+                constructor = MethodHandles.dropArguments(lookup.findConstructor(cls, MethodType.methodType(void.class)), 0, FACTORY_TYPE.parameterList());
+            }
+        }
+        return constructor.asType(FACTORY_TYPE);
+    }
+}
@@ -9,6 +9,7 @@ import com.group_finity.mascot.Main;
 import com.group_finity.mascot.action.Action;
 import com.group_finity.mascot.exception.ActionInstantiationException;
 import com.group_finity.mascot.exception.ConfigurationException;
+import com.group_finity.mascot.script.Expression;
 
 /**
  * 代表{@code Action}节点的ActionReference属性
@@ -27,6 +28,8 @@ public class ActionRef implements IActionBuilder {
 
         name = refNode.getAttribute(configurationm.getSchema().getString("Name"));
         params.putAll(refNode.getAttributes());
+        // 参数在创建动作时才会用到, 先把它们放进编译缓存
+        params.values().forEach(Expression::parse);
 
         log.log(Level.FINE, "Finished loading action reference: {0}", this);
     }
@@ -38,6 +41,10 @@ public class ActionRef implements IActionBuilder {
 
     @Override
     public Action buildAction(final Map<String, String> params) throws ActionInstantiationException {
+        // 通常没有外部传入的参数, 不用复制
+        if (params.isEmpty()) {
+            return configuration.buildAction(name, this.params);
+        }
         final Map<String, String> newParams = new LinkedHashMap<>(params);
         newParams.putAll(this.params);
         return configuration.buildAction(name, newParams);
@@ -50,4 +57,9 @@ public class ActionRef implements IActionBuilder {
             throw new ConfigurationException(Main.getInstance().getLanguageBundle().getString("NoActionFoundErrorMessage") + "(" + this + ")");
         }
     }
+
+    @Override
+    public void prefetchImages() {
+        configuration.prefetchImages(name);
+    }
 }
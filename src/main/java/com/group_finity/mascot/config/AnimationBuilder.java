@@ -23,8 +23,8 @@ import com.group_finity.mascot.exception.AnimationInstantiationException;
 import com.group_finity.mascot.exception.ConfigurationException;
 import com.group_finity.mascot.exception.VariableException;
 import com.group_finity.mascot.image.ImagePairLoader;
-import com.group_finity.mascot.image.ImagePairLoader.Filter;
-import com.group_finity.mascot.script.Variable;
+import com.group_finity.mascot.image.ImagePairs;
+import com.group_finity.mascot.script.Expression;
 import com.group_finity.mascot.sound.SoundLoader;
 
 /**
@@ -34,15 +34,16 @@ import com.group_finity.mascot.sound.SoundLoader;
  */
 public class AnimationBuilder {
     private static final Logger log = Logger.getLogger(AnimationBuilder.class.getName());
-    /**{@code schema}中对应的{@code animationNode}的{@code condition}属性的值, 默认为true */
-    private final String condition;
+    /**{@code schema}中对应的{@code animationNode}的{@code condition}属性的值, 默认为true, 加载时就已编译 */
+    private final Expression condition;
     private String imageSet = "";
-    private final List<Pose> poses = new ArrayList<>();
-    private final List<Hotspot> hotspots = new ArrayList<>();
+    /**加载时就生成好的{@code Pose}和{@code Hotspot}, 它们不会改变, 所以由这个动画的所有实例共用 */
+    private final Pose[] poses;
+    private final Hotspot[] hotspots;
     /** xml文件框架 */
     private final ResourceBundle schema;
     /**{@code schema}中对应的{@code animationNode}的{@code IsTurn}属性的值, 默认为false */
-    private final String turn;
+    private final boolean turn;
 
     public AnimationBuilder(final ResourceBundle schema, final Entry animationNode, final String imageSet) throws ConfigurationException {
         if (!imageSet.isEmpty()) {
@@ -50,15 +51,16 @@ public class AnimationBuilder {
         }
         this.schema = schema;
         // 获取 animationNode 的 Condition 属性的值, 如无则默认为true
-        this.condition = animationNode.getAttribute(schema.getString("Condition")) == null ? "true" : animationNode.getAttribute(schema.getString("Condition"));
-        this.turn = animationNode.getAttribute(schema.getString("IsTurn")) == null ? "false" : animationNode.getAttribute(schema.getString("IsTurn"));
+        this.condition = Expression.parse(animationNode.getAttribute(schema.getString("Condition")) == null ? "true" : animationNode.getAttribute(schema.getString("Condition")));
+        this.turn = Boolean.parseBoolean(animationNode.getAttribute(schema.getString("IsTurn")));
 
         log.log(Level.FINE, "Loading animations");
         
         // 遍历Animation的所有Pose子节点
+        final List<Pose> poses = new ArrayList<>();
         for (final Entry frameNode : animationNode.selectChildren(schema.getString("Pose"))) {
             try {
-                this.poses.add(this.loadPose(frameNode));
+                poses.add(this.loadPose(frameNode));
             } catch (IOException e) {
                 throw new ConfigurationException(e);
             } catch (RuntimeException e) {
@@ -68,6 +70,7 @@ public class AnimationBuilder {
         }
 
         // 遍历Animation的所有Hotspot子节点（但是好像基本用不到，不用管）
+        final List<Hotspot> hotspots = new ArrayList<>();
         for (final Entry frameNode : animationNode.selectChildren(schema.getString("Hotspot"))) {
             try {
                 hotspots.add(loadHotspot(frameNode));
@@ -79,6 +82,9 @@ public class AnimationBuilder {
             }
         }
 
+        this.poses = poses.toArray(new Pose[0]);
+        this.hotspots = hotspots.toArray(new Hotspot[0]);
+
         log.log(Level.FINE, "Finished loading animations");
 
     }
@@ -99,28 +105,14 @@ public class AnimationBuilder {
         // 音频音量
         final String volumeText = frameNode.getAttribute(schema.getString("Volume")) != null ? frameNode.getAttribute(schema.getString("Volume")) : "0";
 
-        // 不透明度
-        final double opacity = Double.parseDouble(Main.getInstance().getProperties().getProperty("Opacity", "1.0"));
-        // 缩放率
-        final double scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
-
-        // 选择图片缩放时的插值方式, 默认为NEAREST_NEIGHBOUR, 如果配置文件中有设置Filter, 就是用设置的插值方式
-        String filterText = Main.getInstance().getProperties().getProperty("Filter", "false");
-        Filter filter = Filter.NEAREST_NEIGHBOUR;
-        if (filterText.equalsIgnoreCase("true") || filterText.equalsIgnoreCase("hqx")) {
-            filter = ImagePairLoader.Filter.HQX;
-        } else if (filterText.equalsIgnoreCase("bicubic")) {
-            filter = ImagePairLoader.Filter.BICUBIC;
-        }
-
         if (imagePath != null) {
             // 处理图片坐标
             final String[] anchorCoordinates = anchorText.split(",");
             final Point anchor = new Point(Integer.parseInt(anchorCoordinates[0]), Integer.parseInt(anchorCoordinates[1]));
 
-            // 加载图片
+            // 登记图片, 像素在第一次构建这个动作时才在后台按当前的缩放设置加载
             try {
-                ImagePairLoader.load(imagePath, imageRightPath, anchor, scaling, filter, opacity);
+                ImagePairLoader.register(imagePath, imageRightPath, anchor);
             } catch (IOException | NumberFormatException e) {
                 // log加载失败的图片文件
                 String error = imagePath.toString();
@@ -132,12 +124,10 @@ public class AnimationBuilder {
             }
         }
 
-        // 处理移动坐标
+        // 处理移动坐标, 以原图片的像素为单位, 播放时再按当前的缩放率换算
         final String[] moveCoordinates = moveText.split(",");
-        int moveX = Integer.parseInt(moveCoordinates[0]);
-        int moveY = Integer.parseInt(moveCoordinates[1]);
-        moveX = Math.abs(moveX) > 0 && Math.abs(moveX * scaling) < 1 ? moveX > 0 ? 1 : -1 : (int) Math.round(moveX * scaling);
-        moveY = Math.abs(moveY) > 0 && Math.abs(moveY * scaling) < 1 ? moveY > 0 ? 1 : -1 : (int) Math.round(moveY * scaling);
+        final int moveX = Integer.parseInt(moveCoordinates[0]);
+        final int moveY = Integer.parseInt(moveCoordinates[1]);
 
         // 处理持续时长
         final int duration = Integer.parseInt(durationText);
@@ -169,20 +159,27 @@ public class AnimationBuilder {
         return pose;
     }
 
+    /**
+     * 让后台线程开始加载这个动画中所有还不在内存中的图片
+     */
+    void prefetchImages() {
+        for (final Pose pose : poses) {
+            ImagePairs.prefetch(pose.getImageName());
+        }
+    }
+
     private Hotspot loadHotspot(final Entry frameNode) throws IOException {
         final String shapeText = frameNode.getAttribute(schema.getString("Shape"));
         final String originText = frameNode.getAttribute(schema.getString("Origin"));
         final String sizeText = frameNode.getAttribute(schema.getString("Size"));
         final String behaviourText = frameNode.getAttribute(schema.getString("Behaviour"));
-        final double scaling = Double.parseDouble(Main.getInstance().getProperties().getProperty("Scaling", "1.0"));
 
+        // 区域以原图片的像素为单位, 使用时再由 Hotspot 按当前的缩放率换算
         final String[] originCoordinates = originText.split(",");
         final String[] sizeCoordinates = sizeText.split(",");
 
-        final Point origin = new Point((int) Math.round(Integer.parseInt(originCoordinates[0]) * scaling),
-                (int) Math.round(Integer.parseInt(originCoordinates[1]) * scaling));
-        final Dimension size = new Dimension((int) Math.round(Integer.parseInt(sizeCoordinates[0]) * scaling),
-                (int) Math.round(Integer.parseInt(sizeCoordinates[1]) * scaling));
+        final Point origin = new Point(Integer.parseInt(originCoordinates[0]), Integer.parseInt(originCoordinates[1]));
+        final Dimension size = new Dimension(Integer.parseInt(sizeCoordinates[0]), Integer.parseInt(sizeCoordinates[1]));
 
         Shape shape;
         if (shapeText.equalsIgnoreCase("Rectangle")) {
@@ -203,7 +200,7 @@ public class AnimationBuilder {
 
     public Animation buildAnimation() throws AnimationInstantiationException {
         try {
-            return new Animation(Variable.parse(condition), poses.toArray(new Pose[0]), hotspots.toArray(new Hotspot[0]), Boolean.parseBoolean(turn));
+            return new Animation(condition.toVariable(), poses, hotspots, turn);
         } catch (final VariableException e) {
             throw new AnimationInstantiationException(Main.getInstance().getLanguageBundle().getString("FailedConditionEvaluationErrorMessage"), e);
         }
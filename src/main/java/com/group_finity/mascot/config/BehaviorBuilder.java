@@ -4,13 +4,13 @@ import com.group_finity.mascot.Main;
 import com.group_finity.mascot.behavior.Behavior;
 import com.group_finity.mascot.behavior.UserBehavior;
 import com.group_finity.mascot.exception.*;
-import com.group_finity.mascot.script.Variable;
-import com.group_finity.mascot.script.VariableMap;
+import com.group_finity.mascot.script.Expression;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,7 +29,10 @@ public class BehaviorBuilder {
 
     private final int frequency;
 
-    private final List<String> conditions;
+    /**
+     * 配置加载时就编译好的条件在{@link ConditionSet}中的编号, 包括外层{@code Condition}节点的条件, 按配置文件中的顺序排列
+     */
+    private final int[] conditions;
 
     private final boolean hidden;
 
@@ -48,8 +51,10 @@ public class BehaviorBuilder {
         actionName = behaviorNode.getAttribute(schema.getString("Action")) == null ? name : behaviorNode.getAttribute(schema.getString("Action"));
         frequency = Integer.parseInt(behaviorNode.getAttribute(schema.getString("Frequency")));
         hidden = Boolean.parseBoolean(behaviorNode.getAttribute(schema.getString("Hidden")));
-        this.conditions = new ArrayList<>(conditions);
-        this.conditions.add(behaviorNode.getAttribute(schema.getString("Condition")));
+        final List<String> texts = new ArrayList<>(conditions);
+        texts.add(behaviorNode.getAttribute(schema.getString("Condition")));
+        this.conditions = texts.stream().filter(Objects::nonNull)
+                .mapToInt(text -> configuration.getConditions().register(Expression.parse(text), name)).toArray();
 
         // override of toggleable state for required fields
         // fall/throw/dragged这个三个动作是不可开关的
@@ -69,6 +74,8 @@ public class BehaviorBuilder {
         params.remove(schema.getString("Hidden"));
         params.remove(schema.getString("Condition"));
         params.remove(schema.getString("Toggleable"));
+        // 参数在创建行为时才会用到, 先把它们放进编译缓存
+        params.values().forEach(Expression::parse);
 
         // 处理下一个行为
         boolean nextAdditive = true;
@@ -121,35 +128,42 @@ public class BehaviorBuilder {
      */
     public Behavior buildBehavior() throws BehaviorInstantiationException {
         try {
-            return new UserBehavior(name,
+            final Behavior behavior = new UserBehavior(name,
                     configuration.buildAction(actionName,
                             params), configuration);
+
+            // 下一个行为很可能从 NextBehaviourList 中选出, 提前加载它们的图片
+            for (final BehaviorBuilder next : nextBehaviorBuilders) {
+                configuration.prefetchBehaviorImages(next.getName());
+            }
+            return behavior;
         } catch (final ActionInstantiationException e) {
             log.log(Level.SEVERE, "Failed to initialize the corresponding action for behavior: " + this, e);
             throw new BehaviorInstantiationException(Main.getInstance().getLanguageBundle().getString("FailedInitialiseCorrespondingActionErrorMessage") + "(" + this + ")", e);
         }
     }
 
-    public boolean isEffective(final VariableMap context) throws VariableException {
+    /**
+     * @param selection 这次选择中已经计算过的条件
+     * @return 这个行为是否可以被选中
+     * @throws VariableException 计算条件失败时抛出
+     */
+    boolean isEffective(final ConditionSet.Selection selection) throws VariableException {
         if (frequency == 0) {
             return false;
         }
 
-        for (final String condition : conditions) {
-            if (condition != null) {
-                if (!(Boolean) Variable.parse(condition).get(context)) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
+        return selection.test(conditions);
     }
 
     public String getName() {
         return name;
     }
 
+    String getActionName() {
+        return actionName;
+    }
+
     public int getFrequency() {
         return frequency;
     }
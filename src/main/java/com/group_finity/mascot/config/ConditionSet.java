@@ -0,0 +1,148 @@
+package com.group_finity.mascot.config;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.script.Expression;
+import com.group_finity.mascot.script.ScriptProfiler;
+import com.group_finity.mascot.script.VariableMap;
+
+/**
+ * 一个配置中所有行为的条件. 每个不同的条件有一个编号, 行为按编号记录它需要的条件.
+ * <p>
+ * 外层{@code Condition}节点的条件会复制给其中的每个行为, 所以很多行为有相同的条件.
+ * 选择下一个行为时用一个{@link Selection}记录已经计算过的条件和满足的条件(两个位集),
+ * 同一次选择中每个条件最多计算一次, 之后的行为直接查位集. 结果每次都可能不同的条件(如{@code Math.random()})每次都重新计算.
+ * <p>
+ * 因为共用的条件只计算一次, {@link ScriptProfiler}中只有一个行为用到的条件记在这个行为名下,
+ * 多个行为共用的条件记在{@link ScriptProfiler#shared(String, int)}名下, 不会全部记给这次选择中先计算它的行为.
+ */
+final class ConditionSet {
+    /**
+     * 条件到编号的映射. 相同文本的条件是同一个{@link Expression}对象
+     */
+    private final Map<Expression, Integer> ids = new IdentityHashMap<>();
+
+    private final List<Expression> conditions = new ArrayList<>();
+
+    /**
+     * 每个条件的行为的名称
+     */
+    private final List<Set<String>> behaviors = new ArrayList<>();
+
+    /**
+     * 每个条件在{@link ScriptProfiler}中的所属名称
+     */
+    private final List<String> owners = new ArrayList<>();
+
+    private final Configuration configuration;
+
+    ConditionSet(final Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @param behavior 需要这个条件的行为的名称
+     * @return 条件的编号, 第一次遇到时分配一个新的编号
+     */
+    int register(final Expression condition, final String behavior) {
+        Integer id = ids.get(condition);
+        if (id == null) {
+            id = conditions.size();
+            ids.put(condition, id);
+            conditions.add(condition);
+            behaviors.add(new LinkedHashSet<>());
+            owners.add(null);
+        }
+        final Set<String> names = behaviors.get(id);
+        if (names.add(behavior)) {
+            final String imageSet = configuration.getImageSet();
+            owners.set(id, names.size() == 1 ? ScriptProfiler.owner(imageSet, behavior) : ScriptProfiler.shared(imageSet, names.size()));
+        }
+        return id;
+    }
+
+    int size() {
+        return conditions.size();
+    }
+
+    /**
+     * 开始一次选择
+     * @param context 计算条件用的变量表
+     */
+    Selection select(final VariableMap context) {
+        return new Selection(context);
+    }
+
+    /**
+     * 一次选择中已经计算过的条件和它们的结果
+     */
+    final class Selection {
+        private final VariableMap context;
+
+        private final long[] evaluated;
+
+        private final long[] satisfied;
+
+        /**
+         * 计算失败的条件的异常, 没有失败时为{@code null}
+         */
+        private VariableException[] failures;
+
+        private Selection(final VariableMap context) {
+            this.context = context;
+            evaluated = new long[(conditions.size() + 63) >>> 6];
+            satisfied = new long[evaluated.length];
+        }
+
+        /**
+         * @param required 需要的条件的编号, 按配置文件中的顺序排列
+         * @return 是否满足所有条件, 遇到不满足的条件就不再计算后面的条件
+         * @throws VariableException 计算条件失败时抛出. 同一个条件在这次选择中失败后, 每个需要它的行为都会得到同一个异常
+         */
+        boolean test(final int[] required) throws VariableException {
+            for (final int id : required) {
+                final int word = id >>> 6;
+                final long bit = 1L << id;
+                if ((evaluated[word] & bit) == 0) {
+                    evaluate(id, word, bit);
+                }
+                if ((satisfied[word] & bit) == 0) {
+                    if (failures != null && failures[id] != null) {
+                        throw failures[id];
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void evaluate(final int id, final int word, final long bit) throws VariableException {
+            final Expression condition = conditions.get(id);
+            final boolean value;
+            try {
+                value = (Boolean) ScriptProfiler.evaluate(condition, context, owners.get(id));
+            } catch (final VariableException e) {
+                if (failures == null) {
+                    failures = new VariableException[conditions.size()];
+                }
+                failures[id] = e;
+                evaluated[word] |= bit;
+                throw e;
+            }
+            if (value) {
+                satisfied[word] |= bit;
+            } else {
+                satisfied[word] &= ~bit;
+            }
+            if (condition.getDependency() != Expression.Dependency.RANDOM) {
+                evaluated[word] |= bit;
+            }
+        }
+    }
+}
@@ -4,8 +4,11 @@ import java.awt.*;
 import java.io.IOException;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+import javax.swing.SwingUtilities;
+
 import com.group_finity.mascot.Main;
 import com.group_finity.mascot.Mascot;
 import com.group_finity.mascot.action.Action;
@@ -14,6 +17,7 @@ import com.group_finity.mascot.behavior.UserBehavior;
 import com.group_finity.mascot.exception.ActionInstantiationException;
 import com.group_finity.mascot.exception.BehaviorInstantiationException;
 import com.group_finity.mascot.exception.ConfigurationException;
+import com.group_finity.mascot.exception.ScriptTimeoutException;
 import com.group_finity.mascot.exception.VariableException;
 import com.group_finity.mascot.script.VariableMap;
 
@@ -29,9 +33,39 @@ public class Configuration {
     private final Map<String, ActionBuilder> actionBuilders = new LinkedHashMap<>();
     private final Map<String, BehaviorBuilder> behaviorBuilders = new LinkedHashMap<>();
     private final Map<String, String> information = new LinkedHashMap<>(8);
+    /**这个配置所属的图片集, 在{@link #load(Entry, String)}中设置 */
+    private String imageSet;
+    /**选择下一个行为时计算条件用的变量表的布局 */
+    private final VariableMap.Layout contextLayout = new VariableMap.Layout();
+    /**所有行为的条件, 同一次选择中每个条件只计算一次 */
+    private final ConditionSet conditions = new ConditionSet(this);
+    /**脚本超时而停用的行为, 直到程序重新启动 */
+    private final Set<String> suspendedBehaviors = ConcurrentHashMap.newKeySet();
+    /**上一个行为 -> 可能选出的行为(频率大于0), 按选择时的顺序排列. 键为{@code null}时是没有上一个行为的情况, 在{@link #validate()}中生成 */
+    private final Map<String, BehaviorBuilder[]> transitions = new HashMap<>();
+    /**去掉被停用的行为之后的{@link #transitions}, 停用的行为改变时重新生成 */
+    private volatile EnabledTransitions enabledTransitions;
+
+    /**
+     * 某一组停用的行为下的转移表. 设置快照中停用的行为的集合和超时停用的行为数量不变时一直有效
+     */
+    private static final class EnabledTransitions {
+        private final Set<String> disabled;
+
+        private final int suspended;
+
+        private final Map<String, BehaviorBuilder[]> candidates;
+
+        private EnabledTransitions(final Set<String> disabled, final int suspended, final Map<String, BehaviorBuilder[]> candidates) {
+            this.disabled = disabled;
+            this.suspended = suspended;
+            this.candidates = candidates;
+        }
+    }
 
     public void load(final Entry configurationNode, final String imageSet) throws IOException, ConfigurationException {
         log.log(Level.FINE, "Reading configuration file...");
+        this.imageSet = imageSet;
         log.log(Level.FINE, "Using " + (schema.getLocale().toLanguageTag().equals("und") ? "default" : schema.getLocale().toLanguageTag()) + " schema");
 
         // 遍历xml文件中的全局变量
@@ -142,51 +176,84 @@ public class Configuration {
         for (final BehaviorBuilder builder : behaviorBuilders.values()) {
             builder.validate();
         }
+        buildTransitions();
+    }
+
+    /**
+     * 按每个可能的上一个行为, 预先合并全局的行为列表和它的{@code NextBehaviourList}
+     */
+    private void buildTransitions() {
+        final BehaviorBuilder[] global = behaviorBuilders.values().stream()
+                .filter(builder -> builder.getFrequency() != 0).toArray(BehaviorBuilder[]::new);
+        transitions.put(null, global);
+        for (final BehaviorBuilder previous : behaviorBuilders.values()) {
+            final List<BehaviorBuilder> candidates = new ArrayList<>();
+            if (previous.isNextAdditive()) {
+                candidates.addAll(Arrays.asList(global));
+            }
+            for (final BehaviorBuilder next : previous.getNextBehaviorBuilders()) {
+                if (next.getFrequency() != 0) {
+                    candidates.add(next);
+                }
+            }
+            transitions.put(previous.getName(), candidates.toArray(new BehaviorBuilder[0]));
+        }
+        enabledTransitions = null;
+    }
+
+    /**
+     * @param previousName 上一个行为的名称, 没有时为{@code null}
+     * @return 没有被停用的候选行为, 还需要检查条件
+     */
+    private BehaviorBuilder[] getTransitions(final String previousName, final Mascot mascot) {
+        final Set<String> disabled = Main.getInstance().getSettings().getDisabledBehaviours(mascot.getImageSet());
+        final int suspended = suspendedBehaviors.size();
+        EnabledTransitions enabled = enabledTransitions;
+        // 快照中没有改变的集合是同一个对象
+        if (enabled == null || enabled.suspended != suspended || enabled.disabled != disabled) {
+            final Map<String, BehaviorBuilder[]> candidates = new HashMap<>();
+            for (final Map.Entry<String, BehaviorBuilder[]> entry : transitions.entrySet()) {
+                candidates.put(entry.getKey(), Arrays.stream(entry.getValue())
+                        .filter(builder -> !suspendedBehaviors.contains(builder.getName())
+                                && !(builder.isToggleable() && disabled.contains(builder.getName())))
+                        .toArray(BehaviorBuilder[]::new));
+            }
+            enabled = new EnabledTransitions(disabled, suspended, candidates);
+            enabledTransitions = enabled;
+        }
+        final BehaviorBuilder[] candidates = enabled.candidates.get(previousName);
+        return candidates != null ? candidates : enabled.candidates.get(null);
     }
 
     public Behavior buildNextBehavior(final String previousName, final Mascot mascot) throws BehaviorInstantiationException {
-        final VariableMap context = new VariableMap();
+        final VariableMap context = new VariableMap(contextLayout);
         context.putAll(constants); // put first so they can't override mascot
         context.put("mascot", mascot);
+        final ConditionSet.Selection selection = conditions.select(context);
 
-        final Collection<BehaviorBuilder> candidates = new ArrayList<>();
+        // 满足条件的候选行为和它们频率的累计和
+        final BehaviorBuilder[] candidates = getTransitions(previousName, mascot);
+        final BehaviorBuilder[] eligible = new BehaviorBuilder[candidates.length];
+        final long[] cumulativeFrequencies = new long[candidates.length];
+        int count = 0;
         long totalFrequency = 0;
 
-        final BehaviorBuilder previousBehaviorFactory;
-        if (previousName != null) {
-            previousBehaviorFactory = behaviorBuilders.get(previousName);
-        } else {
-            previousBehaviorFactory = null;
-        }
-
-        if (previousName == null || previousBehaviorFactory.isNextAdditive()) {
-            for (final BehaviorBuilder behaviorFactory : behaviorBuilders.values()) {
-                try {
-                    if (behaviorFactory.isEffective(context) && isBehaviorEnabled(behaviorFactory, mascot)) {
-                        candidates.add(behaviorFactory);
-                        totalFrequency += behaviorFactory.getFrequency();
-                    }
-                } catch (final VariableException e) {
-                    log.log(Level.WARNING, "Failed to calculate the frequency of the behavior", e);
-                }
-            }
-        }
-
-        if (previousName != null) {
-            for (final BehaviorBuilder behaviorFactory : previousBehaviorFactory.getNextBehaviorBuilders()) {
-                try {
-                    if (behaviorFactory.isEffective(context) && isBehaviorEnabled(behaviorFactory, mascot)) {
-                        candidates.add(behaviorFactory);
-                        totalFrequency += behaviorFactory.getFrequency();
-                    }
-                } catch (final VariableException e) {
-                    log.log(Level.WARNING, "Failed to calculate the frequency of the behavior", e);
+        for (final BehaviorBuilder behaviorFactory : candidates) {
+            try {
+                if (behaviorFactory.isEffective(selection)) {
+                    totalFrequency += behaviorFactory.getFrequency();
+                    eligible[count] = behaviorFactory;
+                    cumulativeFrequencies[count++] = totalFrequency;
                 }
+            } catch (final ScriptTimeoutException e) {
+                suspendBehavior(behaviorFactory.getName(), mascot, e);
+            } catch (final VariableException e) {
+                log.log(Level.WARNING, "Failed to calculate the frequency of the behavior", e);
             }
         }
 
         if (totalFrequency == 0) {
-            if (Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Multiscreen", "true"))) {
+            if (Main.getInstance().getSettings().isMultiscreen()) {
                 mascot.setAnchor(new Point((int) (Math.random() * (mascot.getEnvironment().getScreen().getRight() - mascot.getEnvironment().getScreen().getLeft())) + mascot.getEnvironment().getScreen().getLeft(),
                         mascot.getEnvironment().getScreen().getTop() - 256));
             } else {
@@ -196,16 +263,19 @@ public class Configuration {
             return buildBehavior(schema.getString(UserBehavior.BEHAVIOURNAME_FALL));
         }
 
-        double random = Math.random() * totalFrequency;
-
-        for (final BehaviorBuilder behaviorFactory : candidates) {
-            random -= behaviorFactory.getFrequency();
-            if (random < 0) {
-                return behaviorFactory.buildBehavior();
+        // 二分查找第一个累计和大于随机数的行为
+        final double random = Math.random() * totalFrequency;
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (random < cumulativeFrequencies[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
         }
-
-        return null;
+        return eligible[low].buildBehavior();
     }
 
     public Behavior buildBehavior(final String name, final Mascot mascot) throws BehaviorInstantiationException {
@@ -213,7 +283,7 @@ public class Configuration {
             if (isBehaviorEnabled(name, mascot)) {
                 return behaviorBuilders.get(name).buildBehavior();
             } else {
-                if (Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Multiscreen", "true"))) {
+                if (Main.getInstance().getSettings().isMultiscreen()) {
                     mascot.setAnchor(new Point((int) (Math.random() * (mascot.getEnvironment().getScreen().getRight() - mascot.getEnvironment().getScreen().getLeft())) + mascot.getEnvironment().getScreen().getLeft(),
                             mascot.getEnvironment().getScreen().getTop() - 256));
                 } else {
@@ -236,12 +306,31 @@ public class Configuration {
     }
 
     public boolean isBehaviorEnabled(final BehaviorBuilder builder, final Mascot mascot) {
+        if (suspendedBehaviors.contains(builder.getName())) {
+            return false;
+        }
         if (builder.isToggleable()) {
-            return Arrays.stream(Main.getInstance().getProperties().getProperty("DisabledBehaviours." + mascot.getImageSet(), "").split("/")).noneMatch(behaviour -> behaviour.equals(builder.getName()));
+            return !Main.getInstance().getSettings().isBehaviourDisabled(mascot.getImageSet(), builder.getName());
         }
         return true;
     }
 
+    /**
+     * 停用一个脚本超时的行为, 直到程序重新启动. 每个行为只报告一次, 不会为每个 mascot 弹出一次错误
+     * @param name 行为的名称
+     * @param mascot 执行这个行为的 mascot
+     * @param cause 脚本超时的异常
+     */
+    public void suspendBehavior(final String name, final Mascot mascot, final ScriptTimeoutException cause) {
+        if (!suspendedBehaviors.add(name)) {
+            return;
+        }
+        log.log(Level.SEVERE, "Disabled behavior \"" + name + "\" of image set \"" + mascot.getImageSet() + "\" because a script ran for too long", cause);
+        // 不阻塞计时器线程
+        SwingUtilities.invokeLater(() -> Main.showError(Main.getInstance().getLanguageBundle().getString("BehaviourSuspendedErrorMessage")
+                + " (" + mascot.getImageSet() + ": " + name + ")", cause));
+    }
+
     public boolean isBehaviorEnabled(final String name, final Mascot mascot) {
         if (behaviorBuilders.containsKey(name)) {
             return isBehaviorEnabled(behaviorBuilders.get(name), mascot);
@@ -250,6 +339,14 @@ public class Configuration {
         }
     }
 
+    ConditionSet getConditions() {
+        return conditions;
+    }
+
+    String getImageSet() {
+        return imageSet;
+    }
+
     public boolean isBehaviorHidden(final String name) {
         if (behaviorBuilders.containsKey(name)) {
             return behaviorBuilders.get(name).isHidden();
@@ -266,6 +363,28 @@ public class Configuration {
         }
     }
     
+    /**
+     * 让后台线程开始加载一个动作用到的图片
+     * @param actionName 动作的名称
+     */
+    void prefetchImages(final String actionName) {
+        final ActionBuilder builder = actionBuilders.get(actionName);
+        if (builder != null) {
+            builder.prefetchImages();
+        }
+    }
+
+    /**
+     * 让后台线程开始加载一个行为对应的动作用到的图片
+     * @param behaviorName 行为的名称
+     */
+    void prefetchBehaviorImages(final String behaviorName) {
+        final BehaviorBuilder builder = behaviorBuilders.get(behaviorName);
+        if (builder != null) {
+            prefetchImages(builder.getActionName());
+        }
+    }
+
     Map<String, ActionBuilder> getActionBuilders() {
         return actionBuilders;
     }
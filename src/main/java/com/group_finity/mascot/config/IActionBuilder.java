@@ -28,4 +28,9 @@ public interface IActionBuilder {
      * @throws ConfigurationException 如果当前{@code action}或者它的其中一个 children actions 引用了不存在的action时抛出
      */
     void validate() throws ConfigurationException;
+
+    /**
+     * 让后台线程开始加载当前{@code action}和它全部的 children actions 用到的图片, 但不创建{@code action}.
+     */
+    void prefetchImages();
 }
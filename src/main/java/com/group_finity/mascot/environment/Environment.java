@@ -59,6 +59,11 @@ public abstract class Environment {
      */
     public Location cursor = new Location();
 
+    /**
+     * {@link #tick()}的调用次数. 次数相同时环境信息没有更新
+     */
+    private volatile long tickCount;
+
     public static void updateScreenRect() {
         Rectangle virtualBounds = new Rectangle();
 
@@ -113,6 +118,7 @@ public abstract class Environment {
         screen.set(screenRect);
         complexScreen.set(screenRects);
         cursor.set(getCursorPos());
+        tickCount++;
     }
 
     /**
@@ -145,6 +151,10 @@ public abstract class Environment {
         return cursor;
     }
 
+    public long getTickCount() {
+        return tickCount;
+    }
+
     /**
      * 判定给定{@code location}是否位于当前{@code environment}的上下边界
      * @param location
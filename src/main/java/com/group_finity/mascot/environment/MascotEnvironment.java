@@ -36,7 +36,7 @@ public class MascotEnvironment {
      */
     public Area getWorkArea(Boolean ignoreSettings) {
         if (this.currentWorkArea != null) {
-            if (ignoreSettings || Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Multiscreen", "true"))) {
+            if (ignoreSettings || Main.getInstance().getSettings().isMultiscreen()) {
                 // 给Win多屏幕支持的提醒: The Windows work area is smaller than the main screen.
                 // If the current screen includes a work area and the mascot is included in the work area, give priority to the work area.
                 if (currentWorkArea != impl.getWorkArea() && currentWorkArea.toRectangle().contains(impl.getWorkArea().toRectangle())) {
@@ -77,7 +77,7 @@ public class MascotEnvironment {
     public Area getActiveIE() {
         Area activeIE = impl.getActiveIE();
 
-        if (currentWorkArea != null && !Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Multiscreen", "true")) && !currentWorkArea.toRectangle().intersects(activeIE.toRectangle())) {
+        if (currentWorkArea != null && !Main.getInstance().getSettings().isMultiscreen() && !currentWorkArea.toRectangle().intersects(activeIE.toRectangle())) {
             return new Area();
         }
 
@@ -116,6 +116,13 @@ public class MascotEnvironment {
         return impl.getCursor();
     }
 
+    /**
+     * @return 环境信息的更新次数, 所有 mascot 共用. 次数相同时环境信息没有变化
+     */
+    public long getTickCount() {
+        return impl.getTickCount();
+    }
+
     public Border getFloor() {
         return getFloor(false);
     }
@@ -0,0 +1,14 @@
+package com.group_finity.mascot.exception;
+
+/**
+ * 脚本的一次求值超过了时间限制而被中止. 超时的脚本之后不会再执行, 用到它的行为应该停用
+ */
+public class ScriptTimeoutException extends VariableException {
+    public ScriptTimeoutException(final String message) {
+        super(message);
+    }
+
+    public ScriptTimeoutException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
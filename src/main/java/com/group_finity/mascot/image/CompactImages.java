@@ -0,0 +1,171 @@
+package com.group_finity.mascot.image;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.IndexColorModel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 可选的紧凑存储模式(设置项{@code CompactImages}): 颜色不超过256种的图片以8位索引色保存, 只占ARGB图片四分之一的内存.
+ * <p>
+ * 同一个图片集的图片尽量共用一个调色板. 索引色图片不能直接高效地绘制, 所以显示时会展开成ARGB图片,
+ * 展开结果由{@link MascotImage}通过软引用保存, 内存不足时可以回收, 之后再用到时重新展开.
+ */
+final class CompactImages {
+    /**
+     * 每个图片集的调色板, 以图片集名称为键
+     */
+    private static final Map<String, Palette> palettes = new HashMap<>();
+
+    /**
+     * 每个图片集的统计: [转换成索引色的图片数, 保留为ARGB的图片数, 原本占用的字节数, 实际占用的字节数]
+     */
+    private static final Map<String, long[]> statistics = new TreeMap<>();
+
+    private CompactImages() {
+    }
+
+    /**
+     * 一个图片集的调色板. 颜色只会增加, 已有颜色的索引不变, 所以用旧调色板生成的图片仍然正确
+     */
+    private static final class Palette {
+        private final int[] colours = new int[256];
+
+        private final Map<Integer, Integer> indices = new HashMap<>();
+
+        private IndexColorModel model;
+
+        /**
+         * 把图片的颜色加入调色板
+         * @return 调色板是否放得下图片的所有颜色, 放不下时调色板不变
+         */
+        private boolean add(final int[] pixels) {
+            int size = indices.size();
+            // 相邻像素的颜色大多相同, 跳过与前一个像素相同的颜色
+            int last = pixels.length == 0 ? 0 : ~pixels[0];
+            for (final int pixel : pixels) {
+                if (pixel == last) {
+                    continue;
+                }
+                last = pixel;
+                if (!indices.containsKey(pixel)) {
+                    if (size == colours.length) {
+                        // 放不下, 撤销这次加入的颜色
+                        for (int i = model == null ? 0 : model.getMapSize(); i < size; i++) {
+                            indices.remove(colours[i]);
+                        }
+                        return false;
+                    }
+                    colours[size] = pixel;
+                    indices.put(pixel, size++);
+                }
+            }
+            if (model == null || model.getMapSize() != size) {
+                model = new IndexColorModel(8, size, colours, 0, true, -1, DataBuffer.TYPE_BYTE);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 如果可以, 把图片转换成索引色保存
+     * @param image 处理好的ARGB图片
+     * @param imageSet 图片所属的图片集, 同一个图片集共用调色板
+     * @return 索引色图片, 颜色超过256种时返回原图片
+     */
+    static BufferedImage compact(final BufferedImage image, final String imageSet) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        final long argbBytes = width * height * 4L;
+
+        synchronized (palettes) {
+            final long[] counts = statistics.computeIfAbsent(imageSet, key -> new long[4]);
+            counts[2] += argbBytes;
+
+            Palette palette = palettes.computeIfAbsent(imageSet, key -> new Palette());
+            if (!palette.add(pixels)) {
+                // 图片集的调色板已满, 试试这张图片单独使用一个调色板
+                palette = new Palette();
+                if (!palette.add(pixels)) {
+                    counts[1]++;
+                    counts[3] += argbBytes;
+                    return image;
+                }
+            }
+
+            final byte[] indices = new byte[pixels.length];
+            for (int i = 0; i < pixels.length; i++) {
+                indices[i] = i > 0 && pixels[i] == pixels[i - 1] ? indices[i - 1] : (byte) (int) palette.indices.get(pixels[i]);
+            }
+
+            final BufferedImage compacted = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, palette.model);
+            compacted.getRaster().setDataElements(0, 0, width, height, indices);
+            counts[0]++;
+            counts[3] += (long) width * height;
+            return compacted;
+        }
+    }
+
+    /**
+     * @return 图片是否以索引色保存
+     */
+    static boolean isCompact(final BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_BYTE_INDEXED;
+    }
+
+    /**
+     * 把索引色图片展开成用来绘制的ARGB图片, 每次调用都创建新的图片, 不加锁
+     */
+    static BufferedImage expand(final BufferedImage image) {
+        final BufferedImage expanded = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D g2d = expanded.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return expanded;
+    }
+
+    /**
+     * @return 图片实际占用的字节数, 索引色图片每像素1字节, 其它图片每像素4字节
+     */
+    static long bytes(final BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * (isCompact(image) ? 1 : 4);
+    }
+
+    /**
+     * 丢弃一个图片集的调色板和统计, 图片集被移除后再加载时重新生成调色板
+     */
+    static void remove(final String imageSet) {
+        synchronized (palettes) {
+            palettes.remove(imageSet);
+            statistics.remove(imageSet);
+        }
+    }
+
+    static void clear() {
+        synchronized (palettes) {
+            palettes.clear();
+            statistics.clear();
+        }
+    }
+
+    /**
+     * @return 每个图片集转换成索引色的图片数量和节省的内存, 没有启用紧凑存储时为空字符串
+     */
+    static String getStatistics() {
+        final StringBuilder builder = new StringBuilder();
+        synchronized (palettes) {
+            for (final Map.Entry<String, long[]> entry : statistics.entrySet()) {
+                final long[] counts = entry.getValue();
+                builder.append(builder.length() == 0 ? "" : "; ")
+                        .append(String.format("%s: %d of %d images indexed, %.1f MB -> %.1f MB",
+                                entry.getKey(), counts[0], counts[0] + counts[1], counts[2] / 1048576.0, counts[3] / 1048576.0));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -1,14 +1,14 @@
 package com.group_finity.mascot.image;
 
-import javax.imageio.ImageIO;
-
 import com.group_finity.mascot.Main;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.Properties;
 
 import hqx.Hqx_2x;
 import hqx.Hqx_3x;
@@ -22,39 +22,240 @@ public class ImagePairLoader {
      * 缩放图片的方式, 可选:
      * <ul><li>NEAREST_NEIGHBOUR -最邻近插值法</li>
      * <li>HQX -(“hq”代表“高清”、“x”代表放大倍率）是一种由Maxim Stepin开发的像素放大算法</li>
-     * <li>BICUBIC -双三次插值</li></ul>
+     * <li>BICUBIC -双三次插值</li>
+     * <li>EPX -Scale2x/Scale3x, 只比较上下左右四个邻居, 比hqx快得多且不需要YUV查找表</li>
+     * <li>XBR -单层边缘检测的xBR, 斜线比EPX平滑, 开销仍远小于hqx</li></ul>
      */
-    public enum Filter {NEAREST_NEIGHBOUR, HQX, BICUBIC}
+    public enum Filter {NEAREST_NEIGHBOUR, HQX, BICUBIC, EPX, XBR}
 
     /**
-     * 加载一个图片对{@code imagePair}
+     * 生成一个图片对所需的、与缩放设置无关的参数. {@link ImagePairs}保存它, 以便图片对被换出内存或者设置改变后可以重新生成
+     */
+    static final class Source {
+        private final Path path;
+        private final Path rightPath;
+        private final Point center;
+
+        private Source(final Path path, final Path rightPath, final Point center) {
+            this.path = path;
+            this.rightPath = rightPath;
+            this.center = center;
+        }
+
+        @Override
+        public String toString() {
+            return path + (rightPath == null ? "" : ", " + rightPath);
+        }
+    }
+
+    /**
+     * 生成图片时使用的设置: 缩放率、滤镜、不透明度和是否紧凑存储. 不可变, 设置改变时创建新的对象
+     */
+    static final class ScalingSettings {
+        private final double scaling;
+        private final Filter filter;
+        private final double opacity;
+        private final boolean compact;
+
+        private ScalingSettings(final double scaling, final Filter filter, final double opacity, final boolean compact) {
+            this.scaling = scaling;
+            this.filter = filter;
+            this.opacity = opacity;
+            this.compact = compact;
+        }
+
+        /**
+         * 从设置项{@code Scaling}、{@code Filter}、{@code Opacity}和{@code CompactImages}读取设置.
+         * {@link MemoryPlanner}估计内存不够时也会启用紧凑存储
+         */
+        static ScalingSettings fromProperties() {
+            final Properties properties = Main.getInstance().getProperties();
+
+            // 选择图片缩放时的插值方式, 默认为NEAREST_NEIGHBOUR, 如果配置文件中有设置Filter, 就是用设置的插值方式
+            final String filterText = properties.getProperty("Filter", "false");
+            Filter filter = Filter.NEAREST_NEIGHBOUR;
+            if (filterText.equalsIgnoreCase("true") || filterText.equalsIgnoreCase("hqx")) {
+                filter = Filter.HQX;
+            } else if (filterText.equalsIgnoreCase("bicubic")) {
+                filter = Filter.BICUBIC;
+            } else if (filterText.equalsIgnoreCase("epx")) {
+                filter = Filter.EPX;
+            } else if (filterText.equalsIgnoreCase("xbr")) {
+                filter = Filter.XBR;
+            }
+
+            return new ScalingSettings(Double.parseDouble(properties.getProperty("Scaling", "1.0")), filter,
+                    Double.parseDouble(properties.getProperty("Opacity", "1.0")),
+                    Boolean.parseBoolean(properties.getProperty("CompactImages", "false")) || MemoryPlanner.isCompactRequired());
+        }
+
+        double getScaling() {
+            return scaling;
+        }
+
+        boolean sameAs(final ScalingSettings other) {
+            return other != null && scaling == other.scaling && filter == other.filter && opacity == other.opacity && compact == other.compact;
+        }
+
+        @Override
+        public String toString() {
+            return "scaling " + scaling + ", " + filter + ", opacity " + opacity + (compact ? ", compact" : "");
+        }
+    }
+
+    /**
+     * 立即按当前设置加载一个图片对{@code imagePair}
      * @param path 需要加载的面向左边的图片的文件路径
      * @param rightPath 需要加载的面向右边的图片的文件路径
-     * @param center 图片中心的坐标
-     * @param scaling 比例因子, 图片大小缩放的比例
-     * @param filter 生成(缩放)图片的{@code filter}类型
-     * @param opacity 不透明度
+     * @param center 图片中心的坐标, 以原图片的像素为单位
      * @throws IOException
      */
-    public static void load(final Path path, final Path rightPath, final Point center, final double scaling, final Filter filter, final double opacity) throws IOException{
+    public static void load(final Path path, final Path rightPath, final Point center) throws IOException{
         String key = path.toString() + (rightPath == null ? "" : rightPath);
         // 如果图片已经加载过了, 就不需要再加载一遍了
         if (ImagePairs.contains(key)) {
             return;
         }
 
-        final BufferedImage leftImage = scale(premultiply(ImageIO.read(Files.newInputStream(Main.IMAGE_DIRECTORY.resolve(path))), opacity), scaling, filter);
+        final Source source = new Source(path, rightPath, new Point(center));
+        final ScalingSettings settings = ImagePairs.getSettings();
+        ImagePairs.put(key, source, load(source, settings), settings);
+    }
+
+    /**
+     * 登记一个图片对{@code imagePair}, 但先不加载它. 这里只检查图片文件是否存在,
+     * 像素在第一次用到时由{@link ImagePairs}按当前的缩放设置在后台加载
+     * @param path 面向左边的图片的文件路径
+     * @param rightPath 面向右边的图片的文件路径
+     * @param center 图片中心的坐标, 以原图片的像素为单位
+     * @throws IOException 图片文件不存在
+     */
+    public static void register(final Path path, final Path rightPath, final Point center) throws IOException {
+        String key = path.toString() + (rightPath == null ? "" : rightPath);
+        if (ImagePairs.contains(key)) {
+            return;
+        }
+
+        checkExists(path);
+        if (rightPath != null) {
+            checkExists(rightPath);
+        }
+
+        ImagePairs.register(key, new Source(path, rightPath, new Point(center)));
+    }
+
+    /**
+     * 检查图片是否存在. 图片集有{@link ImageSetPack}时只查包的索引, 不访问文件系统
+     * @throws NoSuchFileException 包和图片目录中都没有这个图片
+     */
+    private static void checkExists(final Path path) throws NoSuchFileException {
+        final ImageSetPack pack = ImageSetPack.forPath(path);
+        if (pack != null && pack.contains(ImageSetPack.entryName(path))) {
+            return;
+        }
+        if (!Files.isRegularFile(Main.IMAGE_DIRECTORY.resolve(path))) {
+            throw new NoSuchFileException(Main.IMAGE_DIRECTORY.resolve(path).toString());
+        }
+    }
+
+    /**
+     * 按{@code source}中的参数和给定的设置生成图片对. 原始图片只解码一次, 之后从{@link SourceImages}中取得
+     * @throws IOException 读取图片文件失败
+     */
+    static ImagePair load(final Source source, final ScalingSettings settings) throws IOException {
+        final Path path = source.path;
+        final Path rightPath = source.rightPath;
+        final Point center = source.center;
+        final double scaling = settings.scaling;
+        final Filter filter = settings.filter;
+        final double opacity = settings.opacity;
+        // 启用紧凑存储时, 颜色不超过256种的图片以索引色保存, 同一个图片集共用调色板
+        final String imageSet = settings.compact ? path.getName(0).toString() : null;
+
+        final BufferedImage leftCanvas = scale(premultiply(SourceImages.read(path), opacity), scaling, filter);
+        // 去掉四周透明的边距, 窗口和重绘区域只需要覆盖可见的像素
+        final Rectangle leftBounds = opaqueBounds(leftCanvas);
+        final BufferedImage leftCropped = crop(leftCanvas, leftBounds);
+        final BufferedImage leftImage = ImagePairs.intern(compact(leftCropped, imageSet));
+        final Dimension leftCanvasSize = new Dimension(leftCanvas.getWidth(), leftCanvas.getHeight());
+
         final BufferedImage rightImage;
-        // 如果向右图路径为空,就直接使用向左图水平翻转后的图片
+        final Rectangle rightBounds;
+        final Dimension rightCanvasSize;
+        // 如果向右图路径为空,就直接使用向左图水平翻转后的图片. 左右对称的图片翻转后内容不变, 会直接共用向左的图片
         if (rightPath == null) {
-            rightImage = flip(leftImage);
+            // 要翻转处理前的ARGB图片, 索引色图片的调色板无法直接复制
+            rightImage = ImagePairs.intern(compact(flip(leftCropped), imageSet));
+            rightBounds = new Rectangle(leftCanvasSize.width - leftBounds.x - leftBounds.width, leftBounds.y, leftBounds.width, leftBounds.height);
+            rightCanvasSize = leftCanvasSize;
         } else {
-            rightImage = scale(premultiply(ImageIO.read(Files.newInputStream(Main.IMAGE_DIRECTORY.resolve(rightPath))), opacity), scaling, filter);
+            final BufferedImage rightCanvas = scale(premultiply(SourceImages.read(rightPath), opacity), scaling, filter);
+            rightBounds = opaqueBounds(rightCanvas);
+            rightImage = ImagePairs.intern(compact(crop(rightCanvas, rightBounds), imageSet));
+            rightCanvasSize = new Dimension(rightCanvas.getWidth(), rightCanvas.getHeight());
         }
 
-        ImagePair ip = new ImagePair(new MascotImage(leftImage, new Point((int) Math.round(center.x * scaling), (int) Math.round(center.y * scaling))),
-                new MascotImage(rightImage, new Point(rightImage.getWidth() - (int) Math.round(center.x * scaling), (int) Math.round(center.y * scaling))));
-        ImagePairs.put(key, ip);
+        // 中心坐标先按原画布计算, 再减去裁剪掉的边距, 这样图片在屏幕上的位置不变
+        final int centerX = (int) Math.round(center.x * scaling);
+        final int centerY = (int) Math.round(center.y * scaling);
+        return new ImagePair(
+                new MascotImage(leftImage, new Point(centerX - leftBounds.x, centerY - leftBounds.y), leftBounds.getLocation(), leftCanvasSize),
+                new MascotImage(rightImage, new Point(rightCanvasSize.width - centerX - rightBounds.x, centerY - rightBounds.y), rightBounds.getLocation(), rightCanvasSize));
+    }
+
+    /**
+     * 按需把图片转换成索引色保存
+     * @param image 处理好的图片
+     * @param imageSet 图片所属的图片集, 为{@code null}时不转换
+     * @return 转换后的图片, 不能转换时返回原图片
+     */
+    private static BufferedImage compact(final BufferedImage image, final String imageSet) {
+        return imageSet == null ? image : CompactImages.compact(image, imageSet);
+    }
+
+    /**
+     * 计算图片中不透明像素的边界
+     * @param image 需要计算的图片
+     * @return 包含所有不透明像素的最小矩形, 如果图片完全透明, 就返回整张图片的范围
+     */
+    private static Rectangle opaqueBounds(final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int[] row = new int[width];
+        int minX = width, minY = height, maxX = -1, maxY = -1;
+
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                if ((row[x] >>> 24) != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = y;
+                }
+            }
+        }
+
+        if (maxX < 0) {
+            return new Rectangle(0, 0, width, height);
+        }
+        return new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    /**
+     * 把图片裁剪到指定的范围. 裁剪出来的是一张新图片, 不和原图片共用像素数据, 原图片可以被回收
+     * @param image 需要裁剪的图片
+     * @param bounds 保留的范围
+     * @return 裁剪后的图片
+     */
+    private static BufferedImage crop(final BufferedImage image, final Rectangle bounds) {
+        if (bounds.x == 0 && bounds.y == 0 && bounds.width == image.getWidth() && bounds.height == image.getHeight()) {
+            return image;
+        }
+
+        final BufferedImage copy = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        copy.getRaster().setDataElements(0, 0, image.getRaster().createChild(bounds.x, bounds.y, bounds.width, bounds.height, 0, 0, null));
+        return copy;
     }
 
     /**
@@ -108,57 +309,31 @@ public class ImagePairLoader {
         int height = source.getHeight();
         BufferedImage workingImage = null;
 
-        // 如果可以使用的话, 使用hqx
+        // 如果可以使用的话, 先用像素画算法放大整数倍, 剩下的倍率再用最邻近插值补上
         double effectiveScaling = scaling;
-        if (filter == Filter.HQX && scaling > 1) {
-            int[] buffer;
-            int[] rbgValues = source.getRGB(0, 0, width, height, null, 0, width);
-
+        if ((filter == Filter.HQX || filter == Filter.EPX || filter == Filter.XBR) && scaling > 1) {
+            final int factor;
             if (scaling == 4 || scaling == 8) {
-                width *= 4;
-                height *= 4;
-                buffer = new int[width * height];
-                Hqx_4x.hq4x_32_rb(rbgValues, buffer, width / 4, height / 4);
-                rbgValues = buffer;
-                effectiveScaling = scaling > 4 ? 2 : 1;
+                factor = 4;
             } else if (scaling == 3 || scaling == 6) {
-                width *= 3;
-                height *= 3;
-                buffer = new int[width * height];
-                Hqx_3x.hq3x_32_rb(rbgValues, buffer, width / 3, height / 3);
-                rbgValues = buffer;
-                effectiveScaling = scaling > 4 ? 2 : 1;
+                factor = 3;
             } else if (scaling == 2) {
-                width *= 2;
-                height *= 2;
-                buffer = new int[width * height];
-                Hqx_2x.hq2x_32_rb(rbgValues, buffer, width / 2, height / 2);
-                rbgValues = buffer;
-                effectiveScaling = 1;
+                factor = 2;
             } else {
+                factor = 1;
                 filter = Filter.NEAREST_NEIGHBOUR;
             }
 
-            // if hqx is still on then apply the changes
-            if (filter == Filter.HQX) {
-                workingImage = new BufferedImage((int) Math.round(width * effectiveScaling), (int) Math.round(height * effectiveScaling), BufferedImage.TYPE_INT_ARGB_PRE);
-                int srcColIndex = 0;
-                int srcRowIndex = 0;
-
-                for (int y = 0; y < workingImage.getHeight(); y++) {
-                    for (int x = 0; x < workingImage.getWidth(); x++) {
-                        workingImage.setRGB(x, y, rbgValues[srcColIndex / (int) effectiveScaling]);
-                        srcColIndex++;
-                    }
-
-                    // resets the srcColIndex to re-use the same indexes and stretch horizontally
-                    srcRowIndex++;
-                    if (srcRowIndex == effectiveScaling) {
-                        srcRowIndex = 0;
-                    } else {
-                        srcColIndex -= workingImage.getWidth();
-                    }
-                }
+            if (factor > 1) {
+                final int[] rbgValues = source.getRGB(0, 0, width, height, null, 0, width);
+                final int[] buffer = upscale(rbgValues, width, height, factor, filter);
+                width *= factor;
+                height *= factor;
+                effectiveScaling = scaling / factor;
+
+                // 放大结果是未预乘的ARGB, 直接写入栅格, 预乘留给下面的drawImage
+                workingImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                workingImage.getRaster().setDataElements(0, 0, width, height, buffer);
             }
         }
 
@@ -178,5 +353,33 @@ public class ImagePairLoader {
         g2d.dispose();
 
         return copy;
-    }    
+    }
+
+    /**
+     * 使用像素画算法把图片放大整数倍
+     * @param rbgValues 原图片的ARGB像素
+     * @param width 原图片宽度
+     * @param height 原图片高度
+     * @param factor 放大倍率, 2、3或4
+     * @param filter {@code HQX}、{@code EPX}或{@code XBR}
+     * @return 放大后的ARGB像素
+     */
+    private static int[] upscale(final int[] rbgValues, final int width, final int height, final int factor, final Filter filter) {
+        if (filter == Filter.EPX) {
+            return PixelArtScaler.scaleEpx(rbgValues, width, height, factor);
+        }
+        if (filter == Filter.XBR) {
+            return PixelArtScaler.scaleXbr(rbgValues, width, height, factor);
+        }
+
+        final int[] buffer = new int[width * height * factor * factor];
+        if (factor == 4) {
+            Hqx_4x.hq4x_32_rb(rbgValues, buffer, width, height);
+        } else if (factor == 3) {
+            Hqx_3x.hq3x_32_rb(rbgValues, buffer, width, height);
+        } else {
+            Hqx_2x.hq2x_32_rb(rbgValues, buffer, width, height);
+        }
+        return buffer;
+    }
 }
@@ -1,25 +1,247 @@
 package com.group_finity.mascot.image;
 
+import com.group_finity.mascot.Main;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * 所有已加载的图片对, 以文件名为键.
+ * <p>
+ * 读取配置时只登记生成图片对的参数, 像素在第一次构建用到它的{@code Action}时由后台线程加载.
+ * <p>
+ * 图片对占用的总字节数超过预算(设置项{@code ImageCacheBudget}, 单位MB, 默认为最大堆内存的一半)时,
+ * 最久没有使用的图片对会被换出内存, 只保留生成它的参数, 下次用到时再重新生成.
+ * <p>
+ * 缩放率、滤镜或不透明度改变后, {@link #applySettings()}在后台按新设置重新生成内存中的图片对,
+ * 全部生成好之后一次性切换过去, 在此之前 mascot 继续显示原来的图片.
+ */
 public class ImagePairs {
+    private static final Logger log = Logger.getLogger(ImagePairs.class.getName());
+
     /**
      * 用线程安全哈希表存储的图片对imagePairs
      */
-    private static final ConcurrentHashMap<String, ImagePair> imagePairs = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Entry> imagePairs = new ConcurrentHashMap<>();
+
+    /**
+     * 当前在内存中的图片对的总字节数, 包括切换设置时在后台生成好、还没有切换过去的图片对.
+     * 多个图片对共用的图片只计算一次, 见{@link #charge(ImagePair)}
+     */
+    private static final AtomicLong loadedBytes = new AtomicLong();
+
+    /**
+     * 每次读取图片对时递增, 用来记录各个图片对最后一次被使用的先后顺序
+     */
+    private static final AtomicLong clock = new AtomicLong();
+
+    /**
+     * 在后台加载图片的线程池
+     */
+    private static final ExecutorService loader = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                final Thread thread = new Thread(runnable, "ImageLoader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final AtomicLong hits = new AtomicLong();
+
+    /**
+     * 第一次加载图片对的次数, 以及换出后重新生成的次数
+     */
+    private static final AtomicLong loads = new AtomicLong();
+
+    private static final AtomicLong reloads = new AtomicLong();
+
+    private static final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * 当前显示的图片所用的设置, 为空时在第一次用到时从设置项读取
+     */
+    private static volatile ImagePairLoader.ScalingSettings settings;
+
+    /**
+     * 正在后台生成的设置, 被更新的设置取代后, 旧的生成结果不再切换过去
+     */
+    private static volatile ImagePairLoader.ScalingSettings targetSettings;
+
+    private static final class Entry {
+        /**
+         * 生成图片对的参数, 为空时图片对不能重新生成, 也就不会被换出
+         */
+        private final ImagePairLoader.Source source;
+
+        private volatile ImagePair imagePair;
+
+        /**
+         * 生成{@code imagePair}时使用的设置. 与当前设置不同时, 这个图片对已经过时
+         */
+        private volatile ImagePairLoader.ScalingSettings settings;
+
+        /**
+         * 按正在切换的新设置生成好的图片对, 切换之后才会被使用
+         */
+        private volatile ImagePair pendingImagePair;
+
+        private volatile ImagePairLoader.ScalingSettings pendingSettings;
+
+        /**
+         * 是否加载过, 用来区分第一次加载和换出后的重新生成
+         */
+        private boolean loaded;
+
+        /**
+         * 是否已经提交给后台线程加载. 不用{@code synchronized}, 以免加载期间查询的线程被阻塞
+         */
+        private final AtomicBoolean loading = new AtomicBoolean();
+
+        /**
+         * 加载失败后不再重试, 这个图片对会一直为空
+         */
+        private volatile boolean failed;
+
+        /**
+         * 已经从表中移除, 还在进行的加载不再计入字节数
+         */
+        private volatile boolean removed;
+
+        /**
+         * 换出后的图片对. 在被垃圾回收之前(例如仍有窗口在显示它)再次用到时, 可以直接取回, 不需要重新生成
+         */
+        private volatile WeakReference<ImagePair> evicted;
+
+        private volatile long lastUsed;
+
+        private Entry(final ImagePairLoader.Source source, final ImagePair imagePair, final ImagePairLoader.ScalingSettings settings) {
+            this.source = source;
+            this.imagePair = imagePair;
+            this.settings = settings;
+            this.loaded = imagePair != null;
+            this.lastUsed = clock.incrementAndGet();
+        }
+    }
+
+    /**
+     * 按像素内容索引的图片表, 键为像素内容的哈希值. 同一个哈希值下的图片还要逐像素比较, 所以哈希冲突不会导致图片被错误地共用.
+     * <p>
+     * 表中只保存弱引用, 不再被任何{@code ImagePair}使用的图片可以正常被回收.
+     */
+    private static final Map<Long, List<RasterReference>> rasters = new HashMap<>();
+
+    /**
+     * 从图片找到它在{@link #rasters}中的记录. {@code BufferedImage}没有重写{@code equals}, 按对象本身查找
+     */
+    private static final Map<BufferedImage, RasterReference> interned = new WeakHashMap<>();
+
+    private static final ReferenceQueue<BufferedImage> collectedRasters = new ReferenceQueue<>();
+
+    /**
+     * 因为内容相同而共用了已有图片的次数, 以及因此少占用的字节数
+     */
+    private static long sharedImages = 0;
+
+    private static long sharedBytes = 0;
+
+    private static final class RasterReference extends WeakReference<BufferedImage> {
+        private final long hash;
+
+        /**
+         * 在内存中并且用到这张图片的图片对的数量, 从0变为1时才计入{@link #loadedBytes}, 回到0时才减去
+         */
+        private int users;
+
+        private RasterReference(final BufferedImage image, final long hash) {
+            super(image, collectedRasters);
+            this.hash = hash;
+        }
+    }
 
     public static void put(final String filename, final ImagePair imagePair) {
-        if (!imagePairs.containsKey(filename)) {
-            imagePairs.put(filename, imagePair);
+        put(filename, null, imagePair, null);
+    }
+
+    static void put(final String filename, final ImagePairLoader.Source source, final ImagePair imagePair, final ImagePairLoader.ScalingSettings settings) {
+        final Entry entry = new Entry(source, imagePair, settings);
+        if (imagePairs.putIfAbsent(filename, entry) == null) {
+            if (imagePair != null) {
+                loadedBytes.addAndGet(charge(imagePair));
+            }
+            evict(entry);
         }
     }
 
+    /**
+     * 登记一个图片对但不加载它, 第一次用到或者调用{@link #prefetch(String)}时才加载
+     */
+    static void register(final String filename, final ImagePairLoader.Source source) {
+        imagePairs.putIfAbsent(filename, new Entry(source, null, null));
+    }
+
+    /**
+     * 如果图片对还不在内存中, 就交给后台线程加载
+     */
+    public static void prefetch(final String filename) {
+        final Entry entry = imagePairs.get(filename);
+        if (entry == null || isCurrent(entry) || entry.failed) {
+            return;
+        }
+
+        if (!entry.loading.compareAndSet(false, true)) {
+            return;
+        }
+        loader.execute(() -> {
+            try {
+                materialise(entry);
+            } finally {
+                entry.loading.set(false);
+            }
+        });
+    }
+
+    /**
+     * 判断图片对是否可以直接使用而不需要等待加载. 如果还需要加载, 就交给后台线程加载.
+     * @return 图片对已经在内存中、加载失败过或者不存在时返回{@code true}
+     */
+    public static boolean isReady(final String filename) {
+        final Entry entry = imagePairs.get(filename);
+        if (entry == null || isCurrent(entry) || entry.failed) {
+            return true;
+        }
+
+        // 换出后还没有被回收的图片对可以马上取回
+        final WeakReference<ImagePair> evicted = entry.evicted;
+        if (evicted != null && evicted.get() != null && entry.settings == getSettings()) {
+            return true;
+        }
+        prefetch(filename);
+        return false;
+    }
+
     public static ImagePair getImagePair(String filename) {
-        if (!imagePairs.containsKey(filename)) {
+        final Entry entry = imagePairs.get(filename);
+        if (entry == null) {
             return null;
         }
-        return imagePairs.get(filename);
+        return materialise(entry);
     }
 
     public static boolean contains(String filename) {
@@ -27,7 +249,24 @@ public class ImagePairs {
     }
 
     public static void clear() {
+        imagePairs.values().forEach(entry -> entry.removed = true);
         imagePairs.clear();
+        loadedBytes.set(0);
+        settings = null;
+        targetSettings = null;
+        hits.set(0);
+        loads.set(0);
+        reloads.set(0);
+        evictions.set(0);
+        synchronized (rasters) {
+            rasters.clear();
+            interned.clear();
+            sharedImages = 0;
+            sharedBytes = 0;
+        }
+        CompactImages.clear();
+        SourceImages.clear();
+        ImageSetPack.clear();
     }
 
     public static void removeAll(String searchTerm) {
@@ -37,13 +276,384 @@ public class ImagePairs {
 
         // imagePairs 的 key 是文件名，使用一个filter来清除所有符合条件的imagePair
         // 图片存储时，图片的名称为 父文件+编号
-        imagePairs.keySet().removeIf(key -> searchTerm.equals(Path.of(key).getParent().toString()));
+        imagePairs.entrySet().removeIf(mapping -> {
+            if (!searchTerm.equals(Path.of(mapping.getKey()).getParent().toString())) {
+                return false;
+            }
+            synchronized (mapping.getValue()) {
+                mapping.getValue().removed = true;
+                if (mapping.getValue().imagePair != null) {
+                    loadedBytes.addAndGet(-release(mapping.getValue().imagePair));
+                }
+                if (mapping.getValue().pendingImagePair != null) {
+                    loadedBytes.addAndGet(-release(mapping.getValue().pendingImagePair));
+                }
+                return true;
+            }
+        });
+        CompactImages.remove(searchTerm);
+        SourceImages.remove(searchTerm);
+        ImageSetPack.remove(searchTerm);
+    }
+
+    /**
+     * 返回图片对, 如果它还没有加载或者已经被换出内存, 就在当前线程中生成
+     */
+    private static ImagePair materialise(final Entry entry) {
+        entry.lastUsed = clock.incrementAndGet();
+        final ImagePairLoader.ScalingSettings settings = getSettings();
+        ImagePair imagePair = entry.imagePair;
+        if (imagePair != null && (entry.settings == settings || entry.source == null)) {
+            hits.incrementAndGet();
+            return imagePair;
+        }
+        if (entry.failed) {
+            return null;
+        }
+
+        synchronized (entry) {
+            if (entry.settings != settings && entry.source != null) {
+                switchSettings(entry, settings);
+            }
+            imagePair = entry.imagePair;
+            if (imagePair == null) {
+                imagePair = entry.evicted != null ? entry.evicted.get() : null;
+                if (imagePair != null) {
+                    hits.incrementAndGet();
+                } else {
+                    try {
+                        imagePair = ImagePairLoader.load(entry.source, settings);
+                    } catch (final IOException | RuntimeException e) {
+                        log.log(Level.SEVERE, "Failed to load image " + entry.source, e);
+                        entry.failed = true;
+                        return null;
+                    }
+                    (entry.loaded ? reloads : loads).incrementAndGet();
+                    entry.loaded = true;
+                }
+                entry.imagePair = imagePair;
+                entry.evicted = null;
+                if (!entry.removed) {
+                    loadedBytes.addAndGet(charge(imagePair));
+                }
+            } else {
+                hits.incrementAndGet();
+            }
+        }
+        evict(entry);
+        return imagePair;
+    }
+
+    /**
+     * @return 图片对是否已经按当前设置生成好, 或者切换设置前已经在后台生成好
+     */
+    private static boolean isCurrent(final Entry entry) {
+        final ImagePairLoader.ScalingSettings settings = getSettings();
+        return entry.imagePair != null && (entry.settings == settings || entry.source == null)
+                || entry.pendingImagePair != null && entry.pendingSettings == settings;
+    }
+
+    /**
+     * 丢弃按旧设置生成的图片对, 如果已经按新设置生成好了就换上新的图片对. 调用时需要持有{@code entry}的锁
+     */
+    private static void switchSettings(final Entry entry, final ImagePairLoader.ScalingSettings settings) {
+        if (entry.imagePair != null && !entry.removed) {
+            loadedBytes.addAndGet(-release(entry.imagePair));
+        }
+        entry.imagePair = null;
+        entry.evicted = null;
+
+        if (entry.pendingImagePair != null && entry.pendingSettings == settings) {
+            // 生成时已经计入了字节数
+            entry.imagePair = entry.pendingImagePair;
+            entry.pendingImagePair = null;
+            entry.pendingSettings = null;
+        } else {
+            discardPending(entry);
+        }
+        entry.settings = settings;
+    }
+
+    /**
+     * 丢弃在后台生成好但不会再用到的图片对. 调用时需要持有{@code entry}的锁
+     */
+    private static void discardPending(final Entry entry) {
+        if (entry.pendingImagePair != null && !entry.removed) {
+            loadedBytes.addAndGet(-release(entry.pendingImagePair));
+        }
+        entry.pendingImagePair = null;
+        entry.pendingSettings = null;
+    }
+
+    /**
+     * @return 当前显示的图片所用的设置
+     */
+    static ImagePairLoader.ScalingSettings getSettings() {
+        ImagePairLoader.ScalingSettings current = settings;
+        if (current == null) {
+            synchronized (ImagePairs.class) {
+                current = settings;
+                if (current == null) {
+                    current = ImagePairLoader.ScalingSettings.fromProperties();
+                    settings = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 当前显示的图片的缩放率. 动画的位移、热点区域和动作中的距离都按它缩放, 所以会和图片在同一时刻切换
+     */
+    public static double getScaling() {
+        return getSettings().getScaling();
+    }
+
+    /**
+     * 设置项中的缩放率、滤镜或不透明度改变后调用. 在后台按新设置重新生成当前在内存中的图片对,
+     * 全部生成好之后一次性切换到新设置, 在此之前 mascot 继续显示原来的图片. 不需要重新读取配置文件.
+     */
+    public static void applySettings() {
+        final ImagePairLoader.ScalingSettings next = ImagePairLoader.ScalingSettings.fromProperties();
+        final ImagePairLoader.ScalingSettings current = getSettings();
+        final ImagePairLoader.ScalingSettings target = targetSettings;
+        if (target != null ? next.sameAs(target) : next.sameAs(current)) {
+            return;
+        }
+        if (next.sameAs(current)) {
+            // 改回了当前的设置, 放弃还在进行的切换和已经生成好的图片对
+            targetSettings = null;
+            for (final Entry entry : imagePairs.values()) {
+                synchronized (entry) {
+                    discardPending(entry);
+                }
+            }
+            return;
+        }
+        targetSettings = next;
+
+        final long start = System.nanoTime();
+        final List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (final Entry entry : imagePairs.values()) {
+            if (entry.source == null || entry.imagePair == null) {
+                continue;
+            }
+            tasks.add(CompletableFuture.runAsync(() -> {
+                if (targetSettings != next || entry.removed) {
+                    return;
+                }
+                try {
+                    final ImagePair imagePair = ImagePairLoader.load(entry.source, next);
+                    synchronized (entry) {
+                        discardPending(entry);
+                        entry.pendingImagePair = imagePair;
+                        entry.pendingSettings = next;
+                        if (!entry.removed) {
+                            loadedBytes.addAndGet(charge(imagePair));
+                        }
+                    }
+                    evict(entry);
+                } catch (final IOException | RuntimeException e) {
+                    // 切换后用到时会再试一次
+                    log.log(Level.WARNING, "Failed to rescale image " + entry.source, e);
+                }
+            }, loader));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            synchronized (ImagePairs.class) {
+                if (targetSettings != next) {
+                    return;
+                }
+                settings = next;
+                targetSettings = null;
+            }
+            log.log(Level.INFO, "Switched to {0} after rescaling {1} image pairs in {2} ms",
+                    new Object[]{next, tasks.size(), (System.nanoTime() - start) / 1000000});
+        });
+    }
+
+    /**
+     * 如果超出了预算, 就按最后使用的先后顺序换出图片对, 直到满足预算
+     * @param keep 刚刚用到的图片对, 不会被换出
+     */
+    private static void evict(final Entry keep) {
+        final long budget = getBudget();
+        if (loadedBytes.get() <= budget) {
+            return;
+        }
+
+        synchronized (ImagePairs.class) {
+            final List<Entry> candidates = new ArrayList<>();
+            for (final Entry entry : imagePairs.values()) {
+                if (entry != keep && entry.source != null && entry.imagePair != null) {
+                    candidates.add(entry);
+                }
+            }
+            candidates.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+
+            for (final Entry entry : candidates) {
+                if (loadedBytes.get() <= budget) {
+                    break;
+                }
+                synchronized (entry) {
+                    if (entry.imagePair != null) {
+                        entry.evicted = new WeakReference<>(entry.imagePair);
+                        loadedBytes.addAndGet(-release(entry.imagePair));
+                        entry.imagePair = null;
+                        evictions.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 图片对可以占用的字节数
+     */
+    static long getBudget() {
+        return Main.getInstance().getSettings().getImageCacheBudget();
+    }
+
+    /**
+     * 图片对进入内存时调用. 遮罩属于每个图片对自己, 总是计入; 共用的图片只在第一个用到它的图片对进入内存时计入
+     * @return 需要加到{@link #loadedBytes}上的字节数
+     */
+    private static long charge(final ImagePair imagePair) {
+        return count(imagePair, 1);
+    }
+
+    /**
+     * 图片对离开内存时调用, 与{@link #charge(ImagePair)}对应. 共用的图片只在最后一个用到它的图片对离开内存时减去
+     * @return 需要从{@link #loadedBytes}中减去的字节数
+     */
+    private static long release(final ImagePair imagePair) {
+        return count(imagePair, -1);
+    }
+
+    private static long count(final ImagePair imagePair, final int delta) {
+        final MascotImage leftImage = imagePair.getImage(false);
+        final MascotImage rightImage = imagePair.getImage(true);
+        final BufferedImage left = leftImage.getStoredImage();
+        final BufferedImage right = rightImage.getStoredImage();
+        long bytes = leftImage.getMaskBytes() + rightImage.getMaskBytes();
+        synchronized (rasters) {
+            bytes += count(left, delta);
+            if (right != left) {
+                bytes += count(right, delta);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return 这张图片在用到它的图片对数量从0变为1或从1变为0时的字节数, 否则为0. 没有经过{@link #intern(BufferedImage)}的图片每次都计入
+     */
+    private static long count(final BufferedImage image, final int delta) {
+        final RasterReference reference = interned.get(image);
+        if (reference == null) {
+            return CompactImages.bytes(image);
+        }
+        final int users = reference.users;
+        reference.users = Math.max(0, users + delta);
+        return (delta > 0 ? users == 0 : users == 1) ? CompactImages.bytes(image) : 0;
+    }
+
+    /**
+     * 如果已经有一张像素内容完全相同的图片, 就返回那张图片, 否则记录并返回传入的图片.
+     * 不同路径下的相同图片、多个图片集共用的图片, 以及左右对称的图片的翻转结果, 都只会在内存中保存一份.
+     * @param image 刚加载并处理好的图片, 调用后不能再修改它的像素
+     * @return 与{@code image}内容相同的共用图片
+     */
+    static BufferedImage intern(final BufferedImage image) {
+        final int[] pixels = pixels(image);
+        final long hash = hash(image.getWidth(), image.getHeight(), pixels);
+
+        synchronized (rasters) {
+            expungeCollectedRasters();
+
+            final List<RasterReference> bucket = rasters.computeIfAbsent(hash, key -> new ArrayList<>(1));
+            for (final RasterReference reference : bucket) {
+                final BufferedImage candidate = reference.get();
+                if (candidate != null && candidate.getWidth() == image.getWidth() && candidate.getHeight() == image.getHeight()
+                        && Arrays.equals(pixels(candidate), pixels)) {
+                    sharedImages++;
+                    sharedBytes += CompactImages.bytes(candidate);
+                    return candidate;
+                }
+            }
+            final RasterReference reference = new RasterReference(image, hash);
+            bucket.add(reference);
+            interned.put(image, reference);
+            return image;
+        }
+    }
+
+    /**
+     * @return 缓存的统计信息: 图片对数量, 实际保存的图片数量和字节数, 去重节省的字节数, 以及预算、命中率和换出次数
+     */
+    public static String getStatistics() {
+        synchronized (rasters) {
+            expungeCollectedRasters();
+
+            int images = 0;
+            long bytes = 0;
+            for (final List<RasterReference> bucket : rasters.values()) {
+                for (final RasterReference reference : bucket) {
+                    final BufferedImage image = reference.get();
+                    if (image != null) {
+                        images++;
+                        bytes += CompactImages.bytes(image);
+                    }
+                }
+            }
+
+            final long hitCount = hits.get();
+            final long reloadCount = reloads.get();
+            final long loaded = imagePairs.values().stream().filter(entry -> entry.imagePair != null).count();
+            final String compact = CompactImages.getStatistics();
+            return String.format("%d image pairs (%d in memory), %d distinct images (%.1f MB), %d duplicates shared (%.1f MB saved), "
+                            + "%.1f of %.1f MB budget in use, %.1f%% hit rate, %d loads, %d reloads, %d evictions",
+                    imagePairs.size(), loaded, images, bytes / 1048576.0, sharedImages, sharedBytes / 1048576.0,
+                    loadedBytes.get() / 1048576.0, getBudget() / 1048576.0,
+                    hitCount + reloadCount == 0 ? 100.0 : 100.0 * hitCount / (hitCount + reloadCount), loads.get(), reloadCount, evictions.get())
+                    + (compact.isEmpty() ? "" : "; compact storage: " + compact);
+        }
+    }
+
+    private static void expungeCollectedRasters() {
+        RasterReference reference;
+        while ((reference = (RasterReference) collectedRasters.poll()) != null) {
+            final List<RasterReference> bucket = rasters.get(reference.hash);
+            if (bucket != null) {
+                bucket.remove(reference);
+                if (bucket.isEmpty()) {
+                    rasters.remove(reference.hash);
+                }
+            }
+        }
+    }
+
+    /**
+     * 复制出图片的ARGB像素. 不直接访问{@code DataBuffer}, 以免图片失去硬件加速
+     */
+    private static int[] pixels(final BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static long hash(final int width, final int height, final int[] pixels) {
+        long hash = 0xCBF29CE484222325L ^ ((long) width << 32 | height);
+        for (final int pixel : pixels) {
+            hash = (hash ^ pixel) * 0x100000001B3L;
+        }
+        return hash;
     }
 
     public static MascotImage getImage(String filename, boolean isLookRight) {
-        if (!imagePairs.containsKey(filename)) {
+        final ImagePair imagePair = getImagePair(filename);
+        if (imagePair == null) {
             return null;
         }
-        return imagePairs.get(filename).getImage(isLookRight);
+        return imagePair.getImage(isLookRight);
     }
 }
@@ -0,0 +1,324 @@
+package com.group_finity.mascot.image;
+
+import com.group_finity.mascot.Main;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * 把一个图片集的所有图片和配置文件打包成的单个文件({@code img/<图片集>/imageset.pack}).
+ * <p>
+ * 有这个文件时, 图片和配置文件都从它读取, 整个图片集只需要打开一次文件; 包里没有的文件仍然从原来的目录读取.
+ * 文件通过{@link FileChannel#map}映射到内存, 读取时不会复制出整个文件.
+ * <p>
+ * 打包后在图片集目录(或包含打包文件的子目录)中添加、删除或替换了文件时, 目录的修改时间会晚于包,
+ * 这时包被认为已经过时, 记录警告并改为读取原来的文件. 为了不逐个访问文件, 不检查原地修改文件内容的情况,
+ * 修改图片后应该重新打包.
+ * <p>
+ * 文件格式(大端序):
+ * <pre>
+ * int    魔数 "SPAK"
+ * int    版本号, 目前为1
+ * int    条目数量
+ * 每个条目:
+ *   short  名称的UTF-8字节数
+ *   byte[] 名称, 相对于图片集目录的路径, 以'/'分隔
+ *   long   内容在文件中的偏移
+ *   int    内容的字节数
+ * 所有条目的内容依次排列
+ * </pre>
+ * 可以用{@link #main(String[])}打包图片集: {@code java -cp Shimeji-ee.jar com.group_finity.mascot.image.ImageSetPack img/<图片集> ...}
+ */
+public final class ImageSetPack {
+    private static final Logger log = Logger.getLogger(ImageSetPack.class.getName());
+
+    public static final String FILE_NAME = "imageset.pack";
+
+    private static final int MAGIC = 0x5350414B;
+
+    private static final int VERSION = 1;
+
+    /**
+     * 已经打开的包, 以图片集名称为键. 没有包的图片集也会记录下来, 以免重复检查文件是否存在
+     */
+    private static final ConcurrentHashMap<String, Optional<ImageSetPack>> packs = new ConcurrentHashMap<>();
+
+    private final Path file;
+
+    private final MappedByteBuffer buffer;
+
+    /**
+     * 条目名称对应的内容范围: {偏移, 字节数}
+     */
+    private final Map<String, long[]> index;
+
+    private ImageSetPack(final Path file, final MappedByteBuffer buffer, final Map<String, long[]> index) {
+        this.file = file;
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+    /**
+     * 返回图片集的包
+     * @param imageSet 图片集名称
+     * @return 图片集的包, 没有包或者包已损坏时返回{@code null}
+     */
+    public static ImageSetPack get(final String imageSet) {
+        return packs.computeIfAbsent(imageSet, key -> Optional.ofNullable(open(Main.IMAGE_DIRECTORY.resolve(key).resolve(FILE_NAME))))
+                .orElse(null);
+    }
+
+    /**
+     * 返回包含{@code path}的包
+     * @param path 相对于图片目录的路径, 第一级为图片集名称
+     */
+    static ImageSetPack forPath(final Path path) {
+        return path.getNameCount() > 1 ? get(path.getName(0).toString()) : null;
+    }
+
+    private static ImageSetPack open(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final FileTime packed = Files.getLastModifiedTime(file);
+            // 映射在通道关闭后仍然有效
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.log(Level.WARNING, "Ignoring {0}: not an image set pack or unsupported version", file);
+                return null;
+            }
+
+            final int count = buffer.getInt();
+            final Map<String, long[]> index = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                final byte[] name = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(name);
+                final long offset = buffer.getLong();
+                final int length = buffer.getInt();
+                if (offset < 0 || offset + length > buffer.capacity()) {
+                    throw new IOException("Entry out of bounds: " + new String(name, StandardCharsets.UTF_8));
+                }
+                index.put(new String(name, StandardCharsets.UTF_8), new long[]{offset, length});
+            }
+
+            final Path changed = findChangedDirectory(file.getParent(), index.keySet(), packed);
+            if (changed != null) {
+                log.log(Level.WARNING, "Ignoring {0}: {1} was modified after the pack was written, using the loose files instead. "
+                        + "Run ImageSetPack again to update the pack", new Object[]{file, changed});
+                return null;
+            }
+
+            log.log(Level.FINE, "Opened {0} with {1} entries", new Object[]{file, count});
+            return new ImageSetPack(file, buffer, index);
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Failed to open " + file + ", using the loose files instead", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return 图片集目录和包含条目的子目录中, 第一个修改时间晚于{@code packed}的目录, 都没有改变时返回{@code null}
+     */
+    private static Path findChangedDirectory(final Path directory, final Set<String> names, final FileTime packed) throws IOException {
+        final Set<Path> directories = new HashSet<>();
+        directories.add(directory);
+        for (final String name : names) {
+            final Path parent = directory.resolve(name).getParent();
+            if (parent != null) {
+                directories.add(parent);
+            }
+        }
+        for (final Path candidate : directories) {
+            if (Files.isDirectory(candidate) && Files.getLastModifiedTime(candidate).compareTo(packed) > 0) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param name 相对于图片集目录的路径, 以'/'分隔
+     */
+    public boolean contains(final String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * @return 包中所有条目的名称
+     */
+    Set<String> names() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * 打开包中的一个条目
+     * @param name 相对于图片集目录的路径, 以'/'分隔
+     * @return 条目的内容
+     * @throws IOException 包中没有这个条目
+     */
+    public InputStream open(final String name) throws IOException {
+        final long[] range = index.get(name);
+        if (range == null) {
+            throw new IOException(name + " is not in " + file);
+        }
+        return new BufferInputStream(buffer.slice((int) range[0], (int) range[1]));
+    }
+
+    /**
+     * 把相对于图片目录的路径转换成包中的条目名称
+     */
+    static String entryName(final Path path) {
+        return path.subpath(1, path.getNameCount()).toString().replace('\\', '/');
+    }
+
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+
+    /**
+     * 丢弃图片集的包, 之后用到时重新打开
+     */
+    static void remove(final String imageSet) {
+        packs.remove(imageSet);
+    }
+
+    static void clear() {
+        packs.clear();
+    }
+
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * 打包工具: 把每个参数指定的图片集目录中的所有png和xml文件写入这个目录下的{@value #FILE_NAME}
+     * @param args 图片集目录
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ImageSetPack <image set directory>...");
+            System.exit(1);
+        }
+
+        for (final String arg : args) {
+            final Path directory = Path.of(arg);
+            final List<Path> files = new ArrayList<>();
+            try (Stream<Path> walk = Files.walk(directory)) {
+                walk.filter(Files::isRegularFile)
+                        .filter(file -> {
+                            final String name = file.getFileName().toString().toLowerCase();
+                            return name.endsWith(".png") || name.endsWith(".xml");
+                        })
+                        .forEach(files::add);
+            }
+            Collections.sort(files);
+
+            final Path target = directory.resolve(FILE_NAME);
+            write(directory, files, target);
+            System.out.println("Packed " + files.size() + " files into " + target + " (" + Files.size(target) / 1024 + " KB)");
+        }
+    }
+
+    private static void write(final Path directory, final List<Path> files, final Path target) throws IOException {
+        final List<byte[]> names = new ArrayList<>(files.size());
+        long offset = 12;
+        for (final Path file : files) {
+            final byte[] name = directory.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            offset += 2 + name.length + 8 + 4;
+        }
+
+        // 先写到临时文件, 写完再替换, 以免程序正在读取的包被写了一半
+        final Path temporary = target.resolveSibling(FILE_NAME + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output))) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                final long length = Files.size(files.get(i));
+                data.writeShort(names.get(i).length);
+                data.write(names.get(i));
+                data.writeLong(offset);
+                data.writeInt((int) length);
+                offset += length;
+            }
+            for (final Path file : files) {
+                Files.copy(file, data);
+            }
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+
+        // 移动文件会更新目录的修改时间, 把包的修改时间设为不早于所有目录, 否则包一写好就会被认为已经过时
+        FileTime latest = FileTime.fromMillis(System.currentTimeMillis());
+        for (final Path file : files) {
+            final FileTime modified = Files.getLastModifiedTime(file.getParent());
+            if (modified.compareTo(latest) > 0) {
+                latest = modified;
+            }
+        }
+        final FileTime root = Files.getLastModifiedTime(directory);
+        Files.setLastModifiedTime(target, root.compareTo(latest) > 0 ? root : latest);
+    }
+}
@@ -2,28 +2,124 @@ package com.group_finity.mascot.image;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
 
 public class MascotImage {
     private final BufferedImage image;
 
+    /**
+     * 图片中心(锚点)的坐标, 相对于裁剪后图片的左上角
+     */
     private final Point center;
 
     private final Dimension size;
 
+    /**
+     * 裁剪后的图片左上角在原画布中的位置. 加载时去掉了四周透明的边距, 没有裁剪时为(0, 0)
+     */
+    private final Point offset;
+
+    /**
+     * 裁剪前原画布的大小, {@code Hotspot}等配置中的坐标都是相对于原画布的
+     */
+    private final Dimension canvasSize;
+
+    /**
+     * 1位的透明度遮罩, 第{@code y * width + x}位表示该像素是否可见(不透明度不为0), 每个{@code long}保存64个像素
+     */
+    private final long[] mask;
+
+    /**
+     * 索引色图片展开后的ARGB图片, 内存不足时可以被回收
+     */
+    private volatile SoftReference<BufferedImage> expanded;
+
+    public MascotImage(final BufferedImage image, final Point center, final Point offset, final Dimension canvasSize) {
+        this.image = image;
+        this.center = center;
+        this.size = new Dimension(image.getWidth(), image.getHeight());
+        this.offset = offset;
+        this.canvasSize = canvasSize;
+        this.mask = mask(image);
+    }
+
     public MascotImage(final BufferedImage image, final Point center, final Dimension size) {
         this.image = image;
         this.center = center;
         this.size = size;
+        this.offset = new Point(0, 0);
+        this.canvasSize = size;
+        this.mask = mask(image);
     }
 
     public MascotImage(final BufferedImage image, final Point center) {
         this(image, center, new Dimension(image.getWidth(), image.getHeight()));
     }
 
+    /**
+     * @return 用来绘制的图片. 以索引色保存的图片会被展开成ARGB图片, 展开结果没有被回收时每次返回同一个对象
+     */
     public BufferedImage getImage() {
+        if (!CompactImages.isCompact(image)) {
+            return image;
+        }
+        final SoftReference<BufferedImage> reference = expanded;
+        BufferedImage result = reference == null ? null : reference.get();
+        if (result == null) {
+            // 两个线程同时展开时各自得到一张图片, 只是多做一次展开
+            result = CompactImages.expand(image);
+            expanded = new SoftReference<>(result);
+        }
+        return result;
+    }
+
+    /**
+     * @return 实际保存的图片, 可能是索引色图片
+     */
+    BufferedImage getStoredImage() {
         return image;
     }
 
+    /**
+     * 判断图片上的一个像素是否可见, 不创建任何对象, 可以在每个鼠标事件里调用
+     * @param x 相对于图片左上角的横坐标
+     * @param y 相对于图片左上角的纵坐标
+     * @return 坐标在图片范围内并且该像素不透明度不为0时返回{@code true}
+     */
+    public boolean isVisible(final int x, final int y) {
+        final int width = image.getWidth();
+        if (x < 0 || y < 0 || x >= width || y >= image.getHeight()) {
+            return false;
+        }
+        final int bit = y * width + x;
+        return (mask[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    /**
+     * @return 透明度遮罩占用的字节数
+     */
+    long getMaskBytes() {
+        return mask.length * 8L;
+    }
+
+    private static long[] mask(final BufferedImage image) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final long[] mask = new long[(int) (((long) width * height + 63) >>> 6)];
+        final int[] row = new int[width];
+
+        int bit = 0;
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++, bit++) {
+                if ((row[x] >>> 24) != 0) {
+                    mask[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+        return mask;
+    }
+
     public Point getCenter() {
         return center;
     }
@@ -31,4 +127,12 @@ public class MascotImage {
     public Dimension getSize() {
         return size;
     }
+
+    public Point getOffset() {
+        return offset;
+    }
+
+    public Dimension getCanvasSize() {
+        return canvasSize;
+    }
 }
@@ -0,0 +1,130 @@
+package com.group_finity.mascot.image;
+
+import com.group_finity.mascot.Main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * 在加载图片集之前估算它们会占用多少内存.
+ * <p>
+ * 只读取每个png文件的文件头(IHDR块)中的宽和高, 再按当前的缩放率计算解码并缩放后的大小, 不需要解码任何图片.
+ * 估算值是上限: 没有算上裁剪透明边距、去重和紧凑存储节省的内存.
+ */
+public final class MemoryPlanner {
+    private static final Logger log = Logger.getLogger(MemoryPlanner.class.getName());
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    /**
+     * 选择的图片集估计会超出图片缓存的预算时自动启用紧凑存储, 即使设置项{@code CompactImages}没有打开
+     */
+    private static volatile boolean compactRequired = false;
+
+    private MemoryPlanner() {
+    }
+
+    /**
+     * 估算一个图片集的所有图片按当前设置加载后占用的字节数. 每张图片计算向左和向右两张缩放后的图片, 以及解码后的原始图片
+     * @param imageSet 图片集名称
+     * @return 估计的字节数, 无法读取的图片不计算在内
+     */
+    public static long estimate(final String imageSet) {
+        final double scaling = ImagePairLoader.ScalingSettings.fromProperties().getScaling();
+        long bytes = 0;
+        for (final int[] size : readSizes(imageSet)) {
+            final long scaled = Math.round(size[0] * scaling) * Math.round(size[1] * scaling) * 4L;
+            bytes += scaled * 2 + size[0] * (long) size[1] * 4;
+        }
+        return bytes;
+    }
+
+    /**
+     * 在加载选择的图片集之前调用. 估计占用的内存超出图片缓存的预算时, 记录警告并在这次运行中启用紧凑存储,
+     * 图片仍然按需加载, 超出预算的部分由{@link ImagePairs}换出, 所以不会用尽堆内存.
+     * 选择的图片集放得下时恢复原来的设置.
+     * @param imageSets 选择的所有图片集
+     */
+    public static void plan(final Collection<String> imageSets) {
+        final long start = System.nanoTime();
+        long total = 0;
+        for (final String imageSet : imageSets) {
+            total += estimate(imageSet);
+        }
+        final long budget = ImagePairs.getBudget();
+
+        final boolean required = total > budget;
+        log.log(required ? Level.WARNING : Level.INFO, "Estimated {0} MB of images for {1} image sets, budget {2} MB, heap limit {3} MB ({4} ms){5}",
+                new Object[]{total / 1048576, imageSets.size(), budget / 1048576, Runtime.getRuntime().maxMemory() / 1048576,
+                        (System.nanoTime() - start) / 1000000, required ? "; using compact storage and loading images on demand" : ""});
+
+        if (compactRequired != required) {
+            compactRequired = required;
+            // 已经加载的图片在后台按新的存储方式重新生成
+            ImagePairs.applySettings();
+        }
+    }
+
+    static boolean isCompactRequired() {
+        return compactRequired;
+    }
+
+    /**
+     * 读取图片集中所有png图片的宽和高. 有{@link ImageSetPack}时只读取包中的图片
+     */
+    private static List<int[]> readSizes(final String imageSet) {
+        final List<int[]> sizes = new ArrayList<>();
+        final ImageSetPack pack = ImageSetPack.get(imageSet);
+        if (pack != null) {
+            for (final String name : pack.names()) {
+                if (name.toLowerCase().endsWith(".png")) {
+                    try (InputStream input = pack.open(name)) {
+                        addSize(sizes, input, name);
+                    } catch (IOException e) {
+                        log.log(Level.FINE, "Failed to read the header of " + name, e);
+                    }
+                }
+            }
+            return sizes;
+        }
+
+        try (Stream<Path> files = Files.walk(Main.IMAGE_DIRECTORY.resolve(imageSet))) {
+            files.filter(file -> file.getFileName().toString().toLowerCase().endsWith(".png")).forEach(file -> {
+                try (InputStream input = Files.newInputStream(file)) {
+                    addSize(sizes, input, file.toString());
+                } catch (IOException e) {
+                    log.log(Level.FINE, "Failed to read the header of " + file, e);
+                }
+            });
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Failed to list the images of " + imageSet, e);
+        }
+        return sizes;
+    }
+
+    /**
+     * 从png文件头读取宽和高: 8字节的文件签名之后第一个块是IHDR, 宽和高是它的前8个字节
+     */
+    private static void addSize(final List<int[]> sizes, final InputStream input, final String name) throws IOException {
+        final byte[] header = input.readNBytes(24);
+        if (header.length < 24 || !Arrays.equals(header, 0, 8, PNG_SIGNATURE, 0, 8)
+                || header[12] != 'I' || header[13] != 'H' || header[14] != 'D' || header[15] != 'R') {
+            log.log(Level.FINE, "{0} is not a PNG file", name);
+            return;
+        }
+        sizes.add(new int[]{readInt(header, 16), readInt(header, 20)});
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | bytes[offset + 3] & 0xFF;
+    }
+}
@@ -0,0 +1,268 @@
+package com.group_finity.mascot.image;
+
+/**
+ * 比hqx更轻量的像素画放大算法: Scale2x/Scale3x (EPX) 与单层边缘检测的xBR.
+ * <p>
+ * 两者都直接处理ARGB像素, 不需要hqx的YUV查找表, 每个像素只读取固定的邻域.
+ * 越界的邻居取边缘像素, 与hqx不卷绕时的行为一致.
+ */
+final class PixelArtScaler {
+    private PixelArtScaler() {
+    }
+
+    /**
+     * 使用Scale2x/Scale3x放大图片, 4倍为两次Scale2x
+     * @param src 原图片的ARGB像素
+     * @param width 原图片宽度
+     * @param height 原图片高度
+     * @param factor 放大倍率, 2、3或4
+     * @return 放大后的ARGB像素, 大小为{@code width * factor × height * factor}
+     */
+    static int[] scaleEpx(final int[] src, final int width, final int height, final int factor) {
+        switch (factor) {
+            case 2:
+                return scale2x(src, width, height);
+            case 3:
+                return scale3x(src, width, height);
+            case 4:
+                return scale2x(scale2x(src, width, height), width * 2, height * 2);
+            default:
+                throw new IllegalArgumentException("Unsupported scale factor: " + factor);
+        }
+    }
+
+    private static int[] scale2x(final int[] src, final int width, final int height) {
+        final int[] dst = new int[width * height * 4];
+        final int dstWidth = width * 2;
+
+        for (int y = 0; y < height; y++) {
+            final int up = Math.max(y - 1, 0) * width;
+            final int row = y * width;
+            final int down = Math.min(y + 1, height - 1) * width;
+            int dstIdx = y * 2 * dstWidth;
+
+            for (int x = 0; x < width; x++) {
+                final int left = Math.max(x - 1, 0);
+                final int right = Math.min(x + 1, width - 1);
+
+                final int a = src[up + x];
+                final int c = src[row + left];
+                final int p = src[row + x];
+                final int b = src[row + right];
+                final int d = src[down + x];
+
+                if (c != b && a != d) {
+                    dst[dstIdx] = c == a ? a : p;
+                    dst[dstIdx + 1] = a == b ? b : p;
+                    dst[dstIdx + dstWidth] = d == c ? c : p;
+                    dst[dstIdx + dstWidth + 1] = b == d ? d : p;
+                } else {
+                    dst[dstIdx] = p;
+                    dst[dstIdx + 1] = p;
+                    dst[dstIdx + dstWidth] = p;
+                    dst[dstIdx + dstWidth + 1] = p;
+                }
+                dstIdx += 2;
+            }
+        }
+
+        return dst;
+    }
+
+    private static int[] scale3x(final int[] src, final int width, final int height) {
+        final int[] dst = new int[width * height * 9];
+        final int dstWidth = width * 3;
+
+        for (int y = 0; y < height; y++) {
+            final int up = Math.max(y - 1, 0) * width;
+            final int row = y * width;
+            final int down = Math.min(y + 1, height - 1) * width;
+            int dstIdx = y * 3 * dstWidth;
+
+            for (int x = 0; x < width; x++) {
+                final int left = Math.max(x - 1, 0);
+                final int right = Math.min(x + 1, width - 1);
+
+                final int a = src[up + left];
+                final int b = src[up + x];
+                final int c = src[up + right];
+                final int d = src[row + left];
+                final int e = src[row + x];
+                final int f = src[row + right];
+                final int g = src[down + left];
+                final int h = src[down + x];
+                final int i = src[down + right];
+
+                int e0 = e, e1 = e, e2 = e, e3 = e, e5 = e, e6 = e, e7 = e, e8 = e;
+                if (b != h && d != f) {
+                    e0 = d == b ? d : e;
+                    e1 = (d == b && e != c) || (b == f && e != a) ? b : e;
+                    e2 = b == f ? f : e;
+                    e3 = (d == b && e != g) || (d == h && e != a) ? d : e;
+                    e5 = (b == f && e != i) || (h == f && e != c) ? f : e;
+                    e6 = d == h ? d : e;
+                    e7 = (d == h && e != i) || (h == f && e != g) ? h : e;
+                    e8 = h == f ? f : e;
+                }
+
+                dst[dstIdx] = e0;
+                dst[dstIdx + 1] = e1;
+                dst[dstIdx + 2] = e2;
+                dst[dstIdx + dstWidth] = e3;
+                dst[dstIdx + dstWidth + 1] = e;
+                dst[dstIdx + dstWidth + 2] = e5;
+                dst[dstIdx + dstWidth * 2] = e6;
+                dst[dstIdx + dstWidth * 2 + 1] = e7;
+                dst[dstIdx + dstWidth * 2 + 2] = e8;
+                dstIdx += 3;
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * 使用单层边缘检测的xBR放大图片.
+     * <p>
+     * 对每个像素的四个角分别比较两条对角线方向上的加权颜色距离, 判断角上是否有一条边穿过.
+     * 有边时, 角上越过边线的子像素取相邻像素的颜色, 正好落在边线上的子像素取两者的平均值.
+     * @param src 原图片的ARGB像素
+     * @param width 原图片宽度
+     * @param height 原图片高度
+     * @param factor 放大倍率, 2、3或4
+     * @return 放大后的ARGB像素, 大小为{@code width * factor × height * factor}
+     */
+    static int[] scaleXbr(final int[] src, final int width, final int height, final int factor) {
+        if (factor < 2 || factor > 4) {
+            throw new IllegalArgumentException("Unsupported scale factor: " + factor);
+        }
+
+        final int dstWidth = width * factor;
+        final int[] dst = new int[width * height * factor * factor];
+        final int half = (factor + 1) / 2;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final int e = src[y * width + x];
+                final int dstIdx = y * factor * dstWidth + x * factor;
+                for (int sy = 0; sy < factor; sy++) {
+                    for (int sx = 0; sx < factor; sx++) {
+                        dst[dstIdx + sy * dstWidth + sx] = e;
+                    }
+                }
+
+                for (int corner = 0; corner < 4; corner++) {
+                    final int dx = (corner & 1) == 0 ? 1 : -1;
+                    final int dy = (corner & 2) == 0 ? 1 : -1;
+                    final int edge = cornerColour(src, width, height, x, y, dx, dy);
+                    if (edge == e) {
+                        continue;
+                    }
+                    final int blend = average(e, edge);
+
+                    // 在以像素中心为原点、放大后子像素为单位的坐标系里(乘以2避免小数),
+                    // 边线为 u + v = factor, 越过边线的子像素取新颜色
+                    for (int i = 0; i < half; i++) {
+                        for (int j = 0; j < half; j++) {
+                            final int u = 2 * (factor - 1 - i) - (factor - 1);
+                            final int v = 2 * (factor - 1 - j) - (factor - 1);
+                            final int sx = dx > 0 ? factor - 1 - i : i;
+                            final int sy = dy > 0 ? factor - 1 - j : j;
+                            if (u + v > factor) {
+                                dst[dstIdx + sy * dstWidth + sx] = edge;
+                            } else if (u + v == factor) {
+                                dst[dstIdx + sy * dstWidth + sx] = blend;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * 计算像素(x, y)在方向(dx, dy)的角上应有的颜色. 以右下角为例, 邻域为:
+     * <pre>
+     *     A1 B1 C1
+     *  A0 A  B  C  C4
+     *  D0 D  E  F  F4
+     *  G0 G  H  I  I4
+     *     G5 H5 I5
+     * </pre>
+     * 其它三个角是这个邻域的镜像.
+     * @return 没有边穿过这个角时返回E本身
+     */
+    private static int cornerColour(final int[] src, final int width, final int height,
+                                    final int x, final int y, final int dx, final int dy) {
+        final int e = pixel(src, width, height, x, y);
+        final int f = pixel(src, width, height, x + dx, y);
+        final int h = pixel(src, width, height, x, y + dy);
+        if (e == f || e == h) {
+            return e;
+        }
+
+        final int b = pixel(src, width, height, x, y - dy);
+        final int c = pixel(src, width, height, x + dx, y - dy);
+        final int d = pixel(src, width, height, x - dx, y);
+        final int g = pixel(src, width, height, x - dx, y + dy);
+        final int i = pixel(src, width, height, x + dx, y + dy);
+        final int f4 = pixel(src, width, height, x + 2 * dx, y);
+        final int i4 = pixel(src, width, height, x + 2 * dx, y + dy);
+        final int h5 = pixel(src, width, height, x, y + 2 * dy);
+        final int i5 = pixel(src, width, height, x + dx, y + 2 * dy);
+
+        final int across = distance(e, c) + distance(e, g) + distance(i, f4) + distance(i, h5) + 4 * distance(h, f);
+        final int along = distance(h, d) + distance(h, i5) + distance(f, i4) + distance(f, b) + 4 * distance(e, i);
+        if (across >= along) {
+            return e;
+        }
+
+        return distance(e, f) <= distance(e, h) ? f : h;
+    }
+
+    private static int pixel(final int[] src, final int width, final int height, final int x, final int y) {
+        final int clampedX = Math.min(Math.max(x, 0), width - 1);
+        final int clampedY = Math.min(Math.max(y, 0), height - 1);
+        return src[clampedY * width + clampedX];
+    }
+
+    /**
+     * 两个ARGB颜色在YUV空间中的加权距离, 亮度和不透明度的权重最高. 结果放大了1000倍以避免浮点运算.
+     */
+    private static int distance(final int c1, final int c2) {
+        if (c1 == c2) {
+            return 0;
+        }
+
+        final int da = ((c1 >>> 24) & 0xFF) - ((c2 >>> 24) & 0xFF);
+        final int dr = ((c1 >> 16) & 0xFF) - ((c2 >> 16) & 0xFF);
+        final int dg = ((c1 >> 8) & 0xFF) - ((c2 >> 8) & 0xFF);
+        final int db = (c1 & 0xFF) - (c2 & 0xFF);
+
+        final int dy = 299 * dr + 587 * dg + 114 * db;
+        final int du = -169 * dr - 331 * dg + 500 * db;
+        final int dv = 500 * dr - 419 * dg - 81 * db;
+
+        return 48 * Math.abs(dy) + 7 * Math.abs(du) + 6 * Math.abs(dv) + 48000 * Math.abs(da);
+    }
+
+    /**
+     * 按不透明度加权平均两个(未预乘的)ARGB颜色, 避免透明像素的颜色渗入边缘.
+     */
+    private static int average(final int c1, final int c2) {
+        final int a1 = (c1 >>> 24) & 0xFF;
+        final int a2 = (c2 >>> 24) & 0xFF;
+        final int alphaSum = a1 + a2;
+        if (alphaSum == 0) {
+            return 0;
+        }
+
+        final int r = (((c1 >> 16) & 0xFF) * a1 + ((c2 >> 16) & 0xFF) * a2) / alphaSum;
+        final int g = (((c1 >> 8) & 0xFF) * a1 + ((c2 >> 8) & 0xFF) * a2) / alphaSum;
+        final int b = ((c1 & 0xFF) * a1 + (c2 & 0xFF) * a2) / alphaSum;
+
+        return (alphaSum / 2) << 24 | r << 16 | g << 8 | b;
+    }
+}
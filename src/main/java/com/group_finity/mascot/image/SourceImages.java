@@ -0,0 +1,62 @@
+package com.group_finity.mascot.image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import com.group_finity.mascot.Main;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 解码后的原始图片, 以相对于图片目录的路径为键.
+ * <p>
+ * 缩放、滤镜和不透明度改变后, 图片对从这里的原始图片重新生成, 不需要再读取和解码图片文件.
+ * 原始图片只被软引用, 内存不足时可以被回收, 之后用到时再从文件解码. 图片集有{@link ImageSetPack}时从包中读取.
+ */
+final class SourceImages {
+    private static final ConcurrentHashMap<Path, SoftReference<BufferedImage>> images = new ConcurrentHashMap<>();
+
+    private SourceImages() {
+    }
+
+    /**
+     * @param path 图片文件相对于图片目录的路径
+     * @return 解码后的图片, 调用者不能修改它的像素
+     * @throws IOException 读取图片文件失败
+     */
+    static BufferedImage read(final Path path) throws IOException {
+        final SoftReference<BufferedImage> reference = images.get(path);
+        BufferedImage image = reference != null ? reference.get() : null;
+        if (image == null) {
+            // 有图片集的包时从包中读取, 包里没有的图片再读取单独的文件
+            final ImageSetPack pack = ImageSetPack.forPath(path);
+            final String entry = pack != null ? ImageSetPack.entryName(path) : null;
+            try (InputStream input = entry != null && pack.contains(entry) ? pack.open(entry) : Files.newInputStream(Main.IMAGE_DIRECTORY.resolve(path))) {
+                // 在内存中缓冲, ImageIO默认会为每个输入流创建一个临时文件
+                image = ImageIO.read(new MemoryCacheImageInputStream(input));
+            }
+            if (image == null) {
+                throw new IOException("Unsupported image format: " + path);
+            }
+            images.put(path, new SoftReference<>(image));
+        }
+        return image;
+    }
+
+    /**
+     * 丢弃一个图片集的原始图片
+     */
+    static void remove(final String imageSet) {
+        images.keySet().removeIf(path -> path.getName(0).toString().equals(imageSet));
+    }
+
+    static void clear() {
+        images.clear();
+    }
+}
@@ -26,6 +26,7 @@ import com.group_finity.mascot.Main;
 import com.group_finity.mascot.config.Configuration;
 import com.group_finity.mascot.config.Entry;
 import com.group_finity.mascot.exception.ConfigurationException;
+import com.group_finity.mascot.image.MemoryPlanner;
 
 /**
  * 用于选择使用的图像集的选择器
@@ -192,6 +193,35 @@ public class ImageSetChooser extends JDialog {
         jList2.setSelectedIndices(convertIntegers(si2));
 
         jScrollPane1.getVerticalScrollBar().setUnitIncrement(9);
+
+        final List<ImageSetChooserPanel> panels = new ArrayList<>(data1);
+        panels.addAll(data2);
+        estimateMemory(panels);
+    }
+
+    /**
+     * 在后台估算每个图片集占用的内存, 估算好一个就显示一个, 对话框不用等待读取所有图片的文件头
+     */
+    private void estimateMemory(final List<ImageSetChooserPanel> panels) {
+        final Thread thread = new Thread(() -> {
+            for (final ImageSetChooserPanel panel : panels) {
+                final long estimatedBytes;
+                try {
+                    // 只读取图片的文件头, 估算这个图片集按当前设置加载后占用的内存
+                    estimatedBytes = MemoryPlanner.estimate(panel.getImageSetName());
+                } catch (final RuntimeException e) {
+                    log.log(Level.WARNING, "Failed to estimate the memory used by " + panel.getImageSetName(), e);
+                    continue;
+                }
+                EventQueue.invokeLater(() -> {
+                    panel.setEstimatedMemory(estimatedBytes);
+                    jList1.repaint();
+                    jList2.repaint();
+                });
+            }
+        }, "MemoryEstimator");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     /**
@@ -5,12 +5,15 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.text.MessageFormat;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import org.netbeans.lib.awtextra.AbsoluteConstraints;
 import org.netbeans.lib.awtextra.AbsoluteLayout;
 
+import com.group_finity.mascot.Main;
+
 /**
  * Displays information about an image set. Used by {@link ImageSetChooser}.
  */
@@ -38,6 +41,15 @@ public class ImageSetChooserPanel extends JPanel {
         }
     }
 
+    /**
+     * 在标题后面显示图片集估计占用的内存
+     * @param bytes 估计的字节数
+     */
+    public void setEstimatedMemory(long bytes) {
+        caption.setText(caption.getText() + "  (" + MessageFormat.format(Main.getInstance().getLanguageBundle().getString("EstimatedMemory"),
+                String.format("%.1f", bytes / 1048576.0)) + ")");
+    }
+
     public void setCheckbox(boolean value) {
         checkbox.setSelected(value);
     }
@@ -0,0 +1,498 @@
+package com.group_finity.mascot.script;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.script.Bindings;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+
+import org.openjdk.nashorn.api.scripting.NashornScriptEngine;
+import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+import com.group_finity.mascot.Main;
+import com.group_finity.mascot.Mascot;
+import com.group_finity.mascot.environment.Area;
+import com.group_finity.mascot.environment.MascotEnvironment;
+import com.group_finity.mascot.exception.ScriptTimeoutException;
+import com.group_finity.mascot.exception.VariableException;
+
+/**
+ * 配置文件中一个参数或条件的解析结果, 是不可变的, 可以被任意多个{@link Variable}和线程共用.
+ * <p>
+ * 相同的文本只会被解析和编译一次, 结果保存在一个全局的编译缓存中. 配置加载时就解析所有参数和条件,
+ * 之后创建{@code Action}、{@code Animation}和选择下一个行为时只会查缓存, 不会再调用 JavaScript 编译器.
+ * <p>
+ * 常见的简单脚本由{@link FastExpression}直接计算, 只有超出它的语法子集或计算时遇到它无法处理的值时才使用 Nashorn,
+ * 这时才编译 Nashorn 脚本.
+ * <p>
+ * 创建 Nashorn 引擎很慢, 所以由{@link #startEngine()}在启动时放到后台线程中, 与图片集的加载同时进行.
+ * 语法子集以外的脚本在解析时交给后台线程池并行编译, 配置加载不会等待编译, 直到第一次用到这个脚本.
+ * <p>
+ * 解析时还会按{@link Dependency}给脚本分类. 不依赖任何变量的脚本只计算一次; 只依赖环境信息的脚本,
+ * 如{@code #{mascot.environment.workArea.bottom-64}}, 每次环境信息更新后只计算一次, 结果由所有 mascot 共用.
+ * <p>
+ * 求值没有全局的锁, 可以在多个线程中同时进行. Nashorn 脚本在变量表自己的 Nashorn 全局对象中执行,
+ * 变量表作为{@link ScriptContext#GLOBAL_SCOPE}传入, 所以脚本中顶层声明的变量只属于这个变量表, 不会遮住其它 mascot 的变量.
+ * <p>
+ * 含有循环或函数的 Nashorn 脚本受{@link ScriptWatchdog}的时间限制, 超时的求值抛出{@link ScriptTimeoutException}.
+ * 表达式按文本在所有图片集之间共用, 所以超时不会停用表达式本身, 由调用者停用所在图片集中的行为.
+ */
+public final class Expression {
+    /**
+     * 脚本的结果依赖的内容, 按共用范围从大到小排列
+     */
+    public enum Dependency {
+        /**
+         * 不依赖任何变量, 结果不变
+         */
+        CONSTANT,
+
+        /**
+         * 只依赖所有 mascot 共用的环境信息. 同一次环境信息更新后, 在同一个工作区域的 mascot 的结果相同
+         */
+        ENVIRONMENT,
+
+        /**
+         * 依赖 mascot 自己的状态或变量, 语法子集以外的脚本也归为此类
+         */
+        MASCOT,
+
+        /**
+         * 每次计算的结果都可能不同(如{@code Math.random()}), 同一个 mascot 也不能共用结果.
+         * 语法子集以外的脚本中出现{@code random}时也归为此类
+         */
+        RANDOM
+    }
+
+    /**
+     * 一个共用的计算结果, 以及计算时的环境信息
+     */
+    private static final class Shared {
+        private final long tickCount;
+
+        private final Area workArea;
+
+        private final Object value;
+
+        private Shared(final long tickCount, final Area workArea, final Object value) {
+            this.tickCount = tickCount;
+            this.workArea = workArea;
+            this.value = value;
+        }
+    }
+
+    private static final Logger log = Logger.getLogger(Expression.class.getName());
+
+    /**
+     * 在后台创建引擎和编译脚本的线程池
+     */
+    private static final ExecutorService compiler = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), runnable -> {
+                final Thread thread = new Thread(runnable, "ScriptCompiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final AtomicBoolean engineStarted = new AtomicBoolean();
+
+    /**Nashorn引擎，用于运行和编译JavaScript资源. 由{@link #startEngine()}在后台创建 */
+    private static final CompletableFuture<NashornScriptEngine> engine = new CompletableFuture<>();
+
+    /**
+     * 每个线程执行 Nashorn 脚本的上下文. 每次执行时换上变量表和它的 Nashorn 全局对象, 只是为了不必每次都创建上下文
+     */
+    private static final ThreadLocal<ScriptContext> contexts = ThreadLocal.withInitial(SimpleScriptContext::new);
+
+    /**
+     * 编译缓存, 以配置文件中的原始文本为键
+     */
+    private static final Map<String, Expression> cache = new ConcurrentHashMap<>();
+
+    private static final AtomicLong lookups = new AtomicLong();
+
+    private static final AtomicLong misses = new AtomicLong();
+
+    private static final AtomicLong compiles = new AtomicLong();
+
+    private static final AtomicLong compileNanos = new AtomicLong();
+
+    private static final AtomicLong scripts = new AtomicLong();
+
+    private static final AtomicLong fastScripts = new AtomicLong();
+
+    private static final LongAdder fastEvaluations = new LongAdder();
+
+    private static final LongAdder scriptEvaluations = new LongAdder();
+
+    private static final AtomicLong[] dependencies = {new AtomicLong(), new AtomicLong(), new AtomicLong(), new AtomicLong()};
+
+    private static final LongAdder sharedHits = new LongAdder();
+
+    private static final LongAdder sharedMisses = new LongAdder();
+
+    /**
+     * 配置文件中的原始文本, 如{@code ${mascot.anchor.x}}或{@code 100}
+     */
+    private final String text;
+
+    /**
+     * JavaScript 资源, 常量时为{@code null}
+     */
+    private final String source;
+
+    /** 是否在初始化Frame前清空Script.value, 即文本是否以{@code #{}开头 */
+    private final boolean clearAtInitFrame;
+
+    private final Object constant;
+
+    /**
+     * 常量的{@link Variable}. {@link Constant}没有可变的状态, 所有使用者共用这一个实例
+     */
+    private final Constant constantVariable;
+
+    /**
+     * 语法子集内的脚本的快速求值器, 其它脚本为{@code null}
+     */
+    private final FastExpression fast;
+
+    /**
+     * 快速求值器遇到过无法处理的值, 之后一直使用 Nashorn
+     */
+    private volatile boolean fastDisabled;
+
+    private final Dependency dependency;
+
+    /**
+     * 最近一次共用的计算结果, 只用于{@link Dependency#CONSTANT}和{@link Dependency#ENVIRONMENT}的脚本
+     */
+    private volatile Shared shared;
+
+    /**
+     * Nashorn 编译的脚本. 有快速求值器时在第一次需要时才编译
+     */
+    private volatile CompiledScript compiled;
+
+    /**
+     * 编译的脚本中是否插入了{@link ScriptWatchdog}的检查
+     */
+    private volatile boolean guarded;
+
+    /**
+     * 受检查的脚本是否已经完成过一次求值
+     */
+    private volatile boolean evaluated;
+
+    /**
+     * 编译失败时的异常. 为了与以前的行为一致, 错误留到使用这个表达式时才抛出, 没有用到的错误脚本不会影响配置的加载
+     */
+    private volatile VariableException error;
+
+    /**
+     * 后台编译 Nashorn 脚本的任务, 不需要在解析时编译的表达式为{@code null}
+     */
+    private final CompletableFuture<Void> compilation;
+
+    private Expression(final String text) {
+        this.text = text;
+        misses.incrementAndGet();
+
+        String source = null;
+        boolean clearAtInitFrame = false;
+        if (text.startsWith("${") && text.endsWith("}")) {
+            source = text.substring(2, text.length() - 1);
+        } else if (text.startsWith("#{") && text.endsWith("}")) {
+            source = text.substring(2, text.length() - 1);
+            clearAtInitFrame = true;
+        }
+        this.source = source;
+        this.clearAtInitFrame = clearAtInitFrame;
+
+        if (source == null) {
+            constant = Variable.parseConstant(text);
+            constantVariable = new Constant(constant);
+            fast = null;
+            dependency = Dependency.CONSTANT;
+            compilation = null;
+            return;
+        }
+
+        constant = null;
+        constantVariable = null;
+        scripts.incrementAndGet();
+        fast = FastExpression.compile(source);
+        dependency = fast != null ? fast.dependency() : source.contains("random") ? Dependency.RANDOM : Dependency.MASCOT;
+        dependencies[dependency.ordinal()].incrementAndGet();
+        if (fast != null) {
+            fastScripts.incrementAndGet();
+            compilation = null;
+        } else {
+            // 在后台编译, 语法错误在 checkCompiled 时报告
+            startEngine();
+            compilation = CompletableFuture.runAsync(this::compileScript, compiler);
+        }
+    }
+
+    /**
+     * 开始在后台创建 Nashorn 引擎. 多次调用只会创建一个引擎
+     */
+    public static void startEngine() {
+        if (engineStarted.compareAndSet(false, true)) {
+            compiler.execute(Expression::createEngine);
+        }
+    }
+
+    private static void createEngine() {
+        final long start = System.nanoTime();
+        try {
+            engine.complete((NashornScriptEngine) new NashornScriptEngineFactory().getScriptEngine(new ScriptFilter()));
+            log.log(Level.INFO, "Created the script engine in {0} ms", (System.nanoTime() - start) / 1000000);
+        } catch (final RuntimeException | Error e) {
+            engine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return Nashorn 引擎, 还没有创建好时等待后台线程
+     */
+    private static NashornScriptEngine getEngine() {
+        startEngine();
+        return engine.join();
+    }
+
+    /**
+     * @return Nashorn 编译的脚本, 编译失败时返回{@code null}并设置{@link #error}
+     */
+    private synchronized CompiledScript compileScript() {
+        if (compiled != null || error != null) {
+            return compiled;
+        }
+
+        final NashornScriptEngine engine;
+        try {
+            engine = getEngine();
+        } catch (final CompletionException e) {
+            error = new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptCompilationErrorMessage") + ": " + source, e.getCause());
+            return null;
+        }
+        final long start = System.nanoTime();
+        try {
+            final String instrumented = ScriptWatchdog.instrument(source);
+            guarded = instrumented != null;
+            compiled = engine.compile(guarded ? instrumented : source);
+        } catch (final ScriptException e) {
+            error = new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptCompilationErrorMessage") + ": " + source, e);
+        }
+        compileNanos.addAndGet(System.nanoTime() - start);
+        compiles.incrementAndGet();
+        return compiled;
+    }
+
+    /**
+     * 解析配置文件中的一个参数或条件, 相同的文本返回同一个对象
+     * @param text 原始文本, {@code ${...}}和{@code #{...}}为脚本, 其它为常量
+     * @return 解析结果, {@code text}为{@code null}时返回{@code null}
+     */
+    public static Expression parse(final String text) {
+        if (text == null) {
+            return null;
+        }
+        lookups.incrementAndGet();
+        return cache.computeIfAbsent(text, Expression::new);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    public boolean isConstant() {
+        return source == null;
+    }
+
+    public Dependency getDependency() {
+        return dependency;
+    }
+
+    /**
+     * 创建一个使用这个表达式的{@link Variable}. {@code Variable}会缓存求值结果, 所以每个{@code Action}和{@code Animation}要有自己的实例.
+     * 常量返回共用的实例
+     * @throws VariableException 脚本编译失败时抛出
+     */
+    public Variable toVariable() throws VariableException {
+        if (isConstant()) {
+            return constantVariable;
+        }
+        checkCompiled();
+        return new Script(this, clearAtInitFrame);
+    }
+
+    /**
+     * @throws VariableException 脚本编译失败时抛出
+     */
+    void checkCompiled() throws VariableException {
+        if (compilation != null) {
+            compilation.join();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * 计算表达式的值. 只依赖环境信息的脚本在同一次环境信息更新内使用共用的结果
+     * @param bindings 脚本中可以使用的变量
+     * @throws VariableException 脚本编译或执行失败时抛出
+     */
+    public Object evaluate(final Bindings bindings) throws VariableException {
+        if (isConstant()) {
+            return constant;
+        }
+        checkCompiled();
+
+        switch (dependency) {
+            case CONSTANT: {
+                final Shared shared = this.shared;
+                if (shared != null) {
+                    sharedHits.increment();
+                    return shared.value;
+                }
+                sharedMisses.increment();
+                final Object value = compute(bindings);
+                this.shared = new Shared(0, null, value);
+                return value;
+            }
+            case ENVIRONMENT: {
+                final Object mascot = bindings.get("mascot");
+                if (!(mascot instanceof Mascot)) {
+                    return compute(bindings);
+                }
+                // workArea 取决于 mascot 所在的屏幕, 关闭多屏幕时 activeIE 是否可见也由它决定, 所以只有在同一个工作区域的 mascot 才能共用结果
+                final MascotEnvironment environment = ((Mascot) mascot).getEnvironment();
+                final long tickCount = environment.getTickCount();
+                final Area workArea = environment.getWorkArea();
+                final Shared shared = this.shared;
+                if (shared != null && shared.tickCount == tickCount && shared.workArea == workArea) {
+                    sharedHits.increment();
+                    return shared.value;
+                }
+                sharedMisses.increment();
+                final Object value = compute(bindings);
+                this.shared = new Shared(tickCount, workArea, value);
+                return value;
+            }
+            default:
+                return compute(bindings);
+        }
+    }
+
+    private Object compute(final Bindings bindings) throws VariableException {
+        if (fast != null && !fastDisabled) {
+            try {
+                final Object value = fast.evaluate(bindings);
+                fastEvaluations.increment();
+                return value;
+            } catch (final FastExpression.Unsupported e) {
+                fastDisabled = true;
+                log.log(Level.FINE, "Script \"{0}\" produced a value the fast evaluator cannot handle, using Nashorn from now on", source);
+                if (e.isAfterCall()) {
+                    // 脚本中的方法已经被调用过, 再用 Nashorn 计算会重复它的副作用. 解析时已经确定了类型,
+                    // 只有接收者为 null 或方法抛出异常这类 Nashorn 也会报错的情况才会走到这里
+                    throw new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptEvaluationErrorMessage") + ": " + source);
+                }
+            }
+        }
+
+        scriptEvaluations.increment();
+        CompiledScript compiled = this.compiled;
+        if (compiled == null) {
+            compiled = compileScript();
+            checkCompiled();
+        }
+        // 脚本调用的 Java 方法可能再执行脚本, 所以结束后恢复原来的变量表和全局对象
+        final ScriptContext context = contexts.get();
+        final Bindings previousScope = context.getBindings(ScriptContext.ENGINE_SCOPE);
+        final Bindings previous = context.getBindings(ScriptContext.GLOBAL_SCOPE);
+        final Bindings scope = bindings instanceof VariableMap
+                ? ((VariableMap) bindings).getScriptScope(Expression::createScope)
+                : createScope();
+        context.setBindings(scope, ScriptContext.ENGINE_SCOPE);
+        context.setBindings(bindings, ScriptContext.GLOBAL_SCOPE);
+        final ScriptWatchdog.Watch watch = guarded ? ScriptWatchdog.begin(!evaluated) : null;
+        if (guarded) {
+            // 插入的检查总会调用它, 不限制时间时放入这个线程没有开始计时的 Watch
+            scope.put(ScriptWatchdog.BINDING, watch != null ? watch : ScriptWatchdog.watch());
+        }
+        Object value = null;
+        Exception failure = null;
+        final boolean expired;
+        try {
+            value = compiled.eval(context);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            context.setBindings(previousScope, ScriptContext.ENGINE_SCOPE);
+            context.setBindings(previous, ScriptContext.GLOBAL_SCOPE);
+            expired = watch != null && ScriptWatchdog.end(watch);
+        }
+
+        // 只有最外层的脚本报告超时. 嵌套的脚本只是被外层的超时打断, 作为普通的执行错误把异常传给外层
+        if (expired && !ScriptWatchdog.isNested(watch)) {
+            throw expire(failure);
+        }
+        evaluated = true;
+        if (failure != null) {
+            throw new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptEvaluationErrorMessage") + ": " + source, failure);
+        }
+        return value;
+    }
+
+    /**
+     * @return 一个新的 Nashorn 全局对象
+     */
+    private static Bindings createScope() {
+        return getEngine().createBindings();
+    }
+
+    /**
+     * @return 这一次求值超时的异常. 以后的求值照常执行
+     */
+    private ScriptTimeoutException expire(final Exception cause) {
+        log.log(Level.WARNING, "Script \"{0}\" ran for longer than {1} ms", new Object[]{source, ScriptWatchdog.getBudget()});
+        return new ScriptTimeoutException(Main.getInstance().getLanguageBundle().getString("ScriptTimeoutErrorMessage") + ": " + source, cause);
+    }
+
+    /**
+     * @return 编译缓存的统计信息: 缓存的表达式数量, 编译次数和耗时, 查找的命中率, 脚本和求值次数中使用快速求值器的比例,
+     * 以及各类依赖的脚本数量和共用结果的命中率
+     */
+    public static String getStatistics() {
+        final long lookupCount = lookups.get();
+        final long compileCount = compiles.get();
+        final long fastCount = fastEvaluations.sum();
+        final long evaluationCount = fastCount + scriptEvaluations.sum();
+        final long hitCount = sharedHits.sum();
+        final long sharedCount = hitCount + sharedMisses.sum();
+        return String.format("%d expressions cached, %d scripts compiled by Nashorn in %.1f ms, %d lookups (%.1f%% hits), "
+                        + "%d of %d scripts on the fast path, %d of %d evaluations (%.1f%%) on the fast path, "
+                        + "%d constant / %d environment-only / %d mascot-dependent / %d random scripts, %d of %d shared lookups (%.1f%%) hit",
+                cache.size(), compileCount, compileNanos.get() / 1e6, lookupCount,
+                lookupCount == 0 ? 0.0 : 100.0 * (lookupCount - misses.get()) / lookupCount,
+                fastScripts.get(), scripts.get(), fastCount, evaluationCount,
+                evaluationCount == 0 ? 0.0 : 100.0 * fastCount / evaluationCount,
+                dependencies[0].get(), dependencies[1].get(), dependencies[2].get(), dependencies[3].get(), hitCount, sharedCount,
+                sharedCount == 0 ? 0.0 : 100.0 * hitCount / sharedCount);
+    }
+}
@@ -0,0 +1,1394 @@
+package com.group_finity.mascot.script;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.script.Bindings;
+
+import com.group_finity.mascot.Mascot;
+import com.group_finity.mascot.exception.VariableException;
+
+/**
+ * 不经过 Nashorn, 直接计算配置文件中最常见的一类脚本: 数字和布尔常量、四则运算、比较、逻辑运算、三元运算、
+ * {@code Math}的常用函数, 以及{@code mascot.environment.workArea.left}这样的属性链和{@code isOn(mascot.anchor)}这样的方法调用.
+ * <p>
+ * 数字全部按{@code double}计算, 中间结果不装箱; 属性和方法通过按接收者类型缓存的{@link MethodHandle}直接调用.
+ * 语法子集以外的脚本在编译时就会被拒绝; 计算时遇到无法保证与 JavaScript 结果一致的情况(如字符串相加、{@code null}的属性)
+ * 会抛出{@link Unsupported}, 由{@link Expression}改用 Nashorn 重新计算.
+ * <p>
+ * 方法可能有副作用(如{@code moveActiveIE(...)}), 不能在调用之后再让 Nashorn 重新计算. 所以有方法调用的脚本在解析时就要确定
+ * 每个值的类型: 只接受从{@code mascot}开始的属性链和方法调用, 数字和布尔值的位置只接受声明为基本类型的结果, 其它的脚本全部交给 Nashorn.
+ * 这样的脚本在调用之后只会因为 Nashorn 也会报错的情况(如接收者为{@code null}, 方法抛出异常)而失败, 这时直接报告错误.
+ */
+final class FastExpression {
+    private static final Logger log = Logger.getLogger(FastExpression.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * {@code mascot.environment}中所有 mascot 共用的属性. {@code floor}、{@code wall}和{@code ceiling}取决于 mascot 的位置, 不在其中;
+     * {@code workArea}和{@code activeIE}取决于 mascot 所在的屏幕, 由{@link Expression}按工作区域区分
+     */
+    private static final Set<String> SHARED_ENVIRONMENT = Set.of("screen", "complexScreen", "cursor", "workArea", "activeIE", "activeIETitle");
+
+    /**
+     * 计算时遇到语法子集无法处理的情况. 只有两个共用的实例, 抛出时不创建对象也不填充调用栈
+     */
+    static final class Unsupported extends RuntimeException {
+        static final Unsupported INSTANCE = new Unsupported(false);
+
+        /**
+         * 在这次计算中已经调用过方法之后才遇到无法处理的情况, 不能再让 Nashorn 重新计算.
+     * 解析时已经确定了类型, 所以只有 Nashorn 也会报错的情况才会这样
+         */
+        static final Unsupported AFTER_CALL = new Unsupported(true);
+
+        private final boolean afterCall;
+
+        private Unsupported(final boolean afterCall) {
+            super(null, null, false, false);
+            this.afterCall = afterCall;
+        }
+
+        boolean isAfterCall() {
+            return afterCall;
+        }
+    }
+
+    /**
+     * 每个线程调用过的方法次数, 用来判断一次计算中是否已经调用过方法
+     */
+    private static final ThreadLocal<int[]> callCounts = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Node root;
+
+    /**
+     * 脚本中是否有方法调用
+     */
+    private final boolean calls;
+
+    private FastExpression(final Node root, final boolean calls) {
+        this.root = root;
+        this.calls = calls;
+    }
+
+    /**
+     * @param source JavaScript 资源
+     * @return 编译好的表达式, 脚本超出语法子集时返回{@code null}
+     */
+    static FastExpression compile(final String source) {
+        try {
+            final Parser parser = new Parser(source);
+            final Node root = parser.parse();
+            if (parser.calls && root.type() == null) {
+                throw new IllegalArgumentException("method call whose values are not typed when parsing");
+            }
+            return new FastExpression(root, parser.calls);
+        } catch (final IllegalArgumentException e) {
+            log.log(Level.FINE, "Script \"{0}\" is evaluated by Nashorn: {1}", new Object[]{source, e.getMessage()});
+            return null;
+        }
+    }
+
+    /**
+     * @throws Unsupported 需要改用 Nashorn 计算时抛出. 已经调用过方法时抛出{@link Unsupported#AFTER_CALL}
+     */
+    Object evaluate(final Bindings bindings) {
+        if (!calls) {
+            return root.value(bindings);
+        }
+        final int[] count = callCounts.get();
+        final int before = count[0];
+        try {
+            return root.value(bindings);
+        } catch (final Unsupported e) {
+            throw count[0] != before ? Unsupported.AFTER_CALL : e;
+        }
+    }
+
+    /**
+     * @return 脚本的结果依赖的内容, 用来决定结果可以在多大范围内共用
+     */
+    Expression.Dependency dependency() {
+        return root.dependency();
+    }
+
+    /**
+     * @return 所有节点的依赖中范围最小的一个
+     */
+    private static Expression.Dependency dependency(final Node... nodes) {
+        Expression.Dependency dependency = Expression.Dependency.CONSTANT;
+        for (final Node node : nodes) {
+            if (node.dependency().compareTo(dependency) > 0) {
+                dependency = node.dependency();
+            }
+        }
+        return dependency;
+    }
+
+    /**
+     * @return 解析时是否能确定结果是基本数字类型
+     */
+    private static boolean isNumber(final Node node) {
+        final Class<?> type = node.type();
+        return type != null && type.isPrimitive() && type != boolean.class && type != void.class;
+    }
+
+    /**
+     * @return 解析时是否能确定结果是{@code boolean}
+     */
+    private static boolean isBoolean(final Node node) {
+        return node.type() == boolean.class;
+    }
+
+    private enum Kind {
+        NUMBER, BOOLEAN, UNKNOWN
+    }
+
+    private abstract static class Node {
+        /**
+         * @return 静态可知的结果类型, 属性和变量为{@link Kind#UNKNOWN}
+         */
+        Kind kind() {
+            return Kind.UNKNOWN;
+        }
+
+        /**
+         * @return 解析时就能确定的结果的 Java 类型, 数字为{@code double.class}. 不能确定, 或者子节点的类型不符合这里的运算时为{@code null}
+         */
+        Class<?> type() {
+            return null;
+        }
+
+        /**
+         * @return 结果依赖的内容, 字面量为{@link Expression.Dependency#CONSTANT}
+         */
+        Expression.Dependency dependency() {
+            return Expression.Dependency.CONSTANT;
+        }
+
+        abstract Object value(Bindings bindings);
+
+        double number(final Bindings bindings) {
+            final Object value = value(bindings);
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
+            throw Unsupported.INSTANCE;
+        }
+
+        boolean bool(final Bindings bindings) {
+            final Object value = value(bindings);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+            throw Unsupported.INSTANCE;
+        }
+    }
+
+    private abstract static class NumberNode extends Node {
+        @Override
+        Kind kind() {
+            return Kind.NUMBER;
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            return number(bindings);
+        }
+
+        @Override
+        abstract double number(Bindings bindings);
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            throw Unsupported.INSTANCE;
+        }
+    }
+
+    private abstract static class BooleanNode extends Node {
+        @Override
+        Kind kind() {
+            return Kind.BOOLEAN;
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            return bool(bindings);
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            throw Unsupported.INSTANCE;
+        }
+
+        @Override
+        abstract boolean bool(Bindings bindings);
+    }
+
+    private static final class NumberLiteral extends NumberNode {
+        private final double number;
+
+        /**
+         * 预先装箱的值. 与 Nashorn 一样, 整数字面量的结果是{@code Integer}
+         */
+        private final Object value;
+
+        private NumberLiteral(final double number, final boolean integer) {
+            this.number = number;
+            final boolean negativeZero = number == 0 && 1 / number < 0;
+            this.value = integer && number == (int) number && !negativeZero ? (Object) (int) number : (Object) number;
+        }
+
+        @Override
+        Class<?> type() {
+            return double.class;
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            return value;
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            return number;
+        }
+    }
+
+    private static final class BooleanLiteral extends BooleanNode {
+        private final boolean value;
+
+        private BooleanLiteral(final boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        Class<?> type() {
+            return boolean.class;
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            return value;
+        }
+    }
+
+    private static final class Negate extends NumberNode {
+        private final Node operand;
+
+        private Negate(final Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(operand);
+        }
+
+        @Override
+        Class<?> type() {
+            return isNumber(operand) ? double.class : null;
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            return -operand.number(bindings);
+        }
+    }
+
+    private static final class Not extends BooleanNode {
+        private final Node operand;
+
+        private Not(final Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(operand);
+        }
+
+        @Override
+        Class<?> type() {
+            return isBoolean(operand) ? boolean.class : null;
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            return !operand.bool(bindings);
+        }
+    }
+
+    private static final class Arithmetic extends NumberNode {
+        private final char operator;
+
+        private final Node left;
+
+        private final Node right;
+
+        private Arithmetic(final char operator, final Node left, final Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(left, right);
+        }
+
+        @Override
+        Class<?> type() {
+            return isNumber(left) && isNumber(right) ? double.class : null;
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            final double a = left.number(bindings);
+            final double b = right.number(bindings);
+            switch (operator) {
+                case '+':
+                    return a + b;
+                case '-':
+                    return a - b;
+                case '*':
+                    return a * b;
+                case '/':
+                    return a / b;
+                default:
+                    return a % b;
+            }
+        }
+    }
+
+    private static final class Compare extends BooleanNode {
+        private final String operator;
+
+        private final Node left;
+
+        private final Node right;
+
+        private Compare(final String operator, final Node left, final Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(left, right);
+        }
+
+        @Override
+        Class<?> type() {
+            return isNumber(left) && isNumber(right) ? boolean.class : null;
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            final double a = left.number(bindings);
+            final double b = right.number(bindings);
+            switch (operator) {
+                case "<":
+                    return a < b;
+                case "<=":
+                    return a <= b;
+                case ">":
+                    return a > b;
+                default:
+                    return a >= b;
+            }
+        }
+    }
+
+    private static final class Equality extends BooleanNode {
+        private final boolean negate;
+
+        private final boolean strict;
+
+        private final Node left;
+
+        private final Node right;
+
+        private Equality(final boolean negate, final boolean strict, final Node left, final Node right) {
+            this.negate = negate;
+            this.strict = strict;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(left, right);
+        }
+
+        @Override
+        Class<?> type() {
+            return isNumber(left) && isNumber(right) || isBoolean(left) && isBoolean(right) ? boolean.class : null;
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            return equals(bindings) != negate;
+        }
+
+        private boolean equals(final Bindings bindings) {
+            if (left.kind() == Kind.NUMBER || right.kind() == Kind.NUMBER) {
+                return left.number(bindings) == right.number(bindings);
+            }
+            if (left.kind() == Kind.BOOLEAN || right.kind() == Kind.BOOLEAN) {
+                return left.bool(bindings) == right.bool(bindings);
+            }
+
+            final Object a = left.value(bindings);
+            final Object b = right.value(bindings);
+            if (a instanceof Number && b instanceof Number) {
+                return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+            }
+            if (a instanceof Boolean && b instanceof Boolean) {
+                return a.equals(b);
+            }
+            // 类型不同时, == 会做类型转换, === 直接不相等
+            if (strict && (a instanceof Number || a instanceof Boolean || b instanceof Number || b instanceof Boolean)) {
+                return false;
+            }
+            throw Unsupported.INSTANCE;
+        }
+    }
+
+    /**
+     * {@code &&}和{@code ||}. JavaScript 中它们返回操作数本身, 这里只处理操作数是布尔值的情况
+     */
+    private static final class Logical extends BooleanNode {
+        private final boolean and;
+
+        private final Node left;
+
+        private final Node right;
+
+        private Logical(final boolean and, final Node left, final Node right) {
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(left, right);
+        }
+
+        @Override
+        Class<?> type() {
+            return isBoolean(left) && isBoolean(right) ? boolean.class : null;
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            return and ? left.bool(bindings) && right.bool(bindings) : left.bool(bindings) || right.bool(bindings);
+        }
+    }
+
+    private static final class Conditional extends Node {
+        private final Node test;
+
+        private final Node whenTrue;
+
+        private final Node whenFalse;
+
+        private Conditional(final Node test, final Node whenTrue, final Node whenFalse) {
+            this.test = test;
+            this.whenTrue = whenTrue;
+            this.whenFalse = whenFalse;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return FastExpression.dependency(test, whenTrue, whenFalse);
+        }
+
+        @Override
+        Kind kind() {
+            return whenTrue.kind() == whenFalse.kind() ? whenTrue.kind() : Kind.UNKNOWN;
+        }
+
+        @Override
+        Class<?> type() {
+            return isBoolean(test) && whenTrue.type() == whenFalse.type() ? whenTrue.type() : null;
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            return test.bool(bindings) ? whenTrue.value(bindings) : whenFalse.value(bindings);
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            return test.bool(bindings) ? whenTrue.number(bindings) : whenFalse.number(bindings);
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            return test.bool(bindings) ? whenTrue.bool(bindings) : whenFalse.bool(bindings);
+        }
+    }
+
+    private static final class MathCall extends NumberNode {
+        private final String function;
+
+        private final Node[] arguments;
+
+        private MathCall(final String function, final Node[] arguments) {
+            this.function = function;
+            this.arguments = arguments;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            // 每次计算的随机数都不同
+            return function.equals("random") ? Expression.Dependency.RANDOM : FastExpression.dependency(arguments);
+        }
+
+        @Override
+        Class<?> type() {
+            for (final Node argument : arguments) {
+                if (!isNumber(argument)) {
+                    return null;
+                }
+            }
+            return double.class;
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            switch (function) {
+                case "random":
+                    return Math.random();
+                case "abs":
+                    return Math.abs(argument(0, bindings));
+                case "ceil":
+                    return Math.ceil(argument(0, bindings));
+                case "floor":
+                    return Math.floor(argument(0, bindings));
+                case "round":
+                    // JavaScript 的 Math.round 向正无穷方向取整, 且保留 NaN
+                    final double value = argument(0, bindings);
+                    final double floor = Math.floor(value);
+                    return value - floor >= 0.5 ? floor + 1 : floor;
+                case "sqrt":
+                    return Math.sqrt(argument(0, bindings));
+                case "pow":
+                    return Math.pow(argument(0, bindings), argument(1, bindings));
+                case "min": {
+                    double result = Double.POSITIVE_INFINITY;
+                    for (final Node argument : arguments) {
+                        result = Math.min(result, argument.number(bindings));
+                    }
+                    return result;
+                }
+                default: {
+                    double result = Double.NEGATIVE_INFINITY;
+                    for (final Node argument : arguments) {
+                        result = Math.max(result, argument.number(bindings));
+                    }
+                    return result;
+                }
+            }
+        }
+
+        /**
+         * 缺少的参数在 JavaScript 中是 undefined, 结果为 NaN
+         */
+        private double argument(final int index, final Bindings bindings) {
+            return index < arguments.length ? arguments[index].number(bindings) : Double.NaN;
+        }
+    }
+
+    private static final class Identifier extends Node {
+        private final String name;
+
+        /**
+         * 上一次使用的变量表布局和变量名在其中的下标. 同一个动作定义的变量表共用布局, 所以通常只需要解析一次
+         */
+        private volatile SlotCache slotCache;
+
+        private static final class SlotCache {
+            private final VariableMap.Layout layout;
+
+            private final int slot;
+
+            private SlotCache(final VariableMap.Layout layout, final int slot) {
+                this.layout = layout;
+                this.slot = slot;
+            }
+        }
+
+        private Identifier(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            return Expression.Dependency.MASCOT;
+        }
+
+        /**
+         * 只有{@code mascot}的类型是确定的, 其它变量的值来自配置文件, 可能是任何类型
+         */
+        @Override
+        Class<?> type() {
+            return name.equals("mascot") ? Mascot.class : null;
+        }
+
+        private int slot(final VariableMap variables) {
+            SlotCache cache = slotCache;
+            if (cache == null || cache.layout != variables.getLayout()) {
+                cache = new SlotCache(variables.getLayout(), variables.slot(name));
+                slotCache = cache;
+            }
+            if (!variables.isSet(cache.slot)) {
+                throw Unsupported.INSTANCE;
+            }
+            return cache.slot;
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            if (bindings instanceof VariableMap) {
+                final VariableMap variables = (VariableMap) bindings;
+                try {
+                    return variables.get(slot(variables));
+                } catch (final VariableException e) {
+                    throw Unsupported.INSTANCE;
+                }
+            }
+
+            final Object value = bindings.get(name);
+            if (value == null && !bindings.containsKey(name)) {
+                throw Unsupported.INSTANCE;
+            }
+            return value;
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            if (bindings instanceof VariableMap) {
+                final VariableMap variables = (VariableMap) bindings;
+                final int slot = slot(variables);
+                if (variables.isNumber(slot)) {
+                    return variables.getNumber(slot);
+                }
+            }
+            return super.number(bindings);
+        }
+    }
+
+    /**
+     * 按接收者类型缓存的成员访问方式. 各个句柄的第一个参数是接收者, 之后是方法参数, 都已适配为{@code Object}
+     */
+    private static final class Accessor {
+        private final Class<?> type;
+
+        private final MethodHandle object;
+
+        /**
+         * 返回值为基本数字类型时, 不装箱直接得到{@code double}的句柄, 否则为{@code null}
+         */
+        private final MethodHandle number;
+
+        /**
+         * 返回值为{@code boolean}时的句柄, 否则为{@code null}
+         */
+        private final MethodHandle bool;
+
+        /**
+         * 方法的参数类型, 属性为空数组
+         */
+        private final Class<?>[] parameters;
+
+        /**
+         * 声明的返回类型
+         */
+        private final Class<?> returnType;
+
+        private Accessor(final Class<?> type, final MethodHandle handle, final Class<?>[] parameters) {
+            this.type = type;
+            this.parameters = parameters;
+            final Class<?> returnType = handle.type().returnType();
+            this.returnType = returnType;
+            final int arity = handle.type().parameterCount();
+            this.object = handle.asType(MethodType.genericMethodType(arity));
+            this.number = returnType.isPrimitive() && returnType != boolean.class && returnType != void.class
+                    ? handle.asType(MethodType.genericMethodType(arity).changeReturnType(double.class)) : null;
+            this.bool = returnType == boolean.class
+                    ? handle.asType(MethodType.genericMethodType(arity).changeReturnType(boolean.class)) : null;
+        }
+
+        /**
+         * @return 返回值是否可能是{@code result}类型的对象
+         */
+        private boolean mayReturn(final Class<?> result) {
+            return !returnType.isPrimitive() && (returnType.isAssignableFrom(result) || result.isAssignableFrom(returnType));
+        }
+    }
+
+    /**
+     * 属性访问({@code target.name})或方法调用({@code target.name(arguments)}), 与 Nashorn 一样优先使用 getter, 然后是公有字段
+     */
+    private static final class Member extends Node {
+        private final Node target;
+
+        private final String name;
+
+        /**
+         * 方法参数, 属性访问时为{@code null}
+         */
+        private final Node[] arguments;
+
+        private volatile Accessor accessor;
+
+        private Member(final Node target, final String name, final Node[] arguments) {
+            this.target = target;
+            this.name = name;
+            this.arguments = arguments;
+        }
+
+        @Override
+        Expression.Dependency dependency() {
+            // 方法可能依赖 mascot 的状态或有副作用, 如 isOn(mascot.anchor) 和 moveActiveIE(...)
+            if (arguments != null) {
+                return target.dependency() == Expression.Dependency.RANDOM || FastExpression.dependency(arguments) == Expression.Dependency.RANDOM
+                        ? Expression.Dependency.RANDOM : Expression.Dependency.MASCOT;
+            }
+            if (target instanceof Member && ((Member) target).isEnvironment()) {
+                return SHARED_ENVIRONMENT.contains(name) ? Expression.Dependency.ENVIRONMENT : Expression.Dependency.MASCOT;
+            }
+            return target.dependency();
+        }
+
+        /**
+         * 按接收者声明的类型找到成员, 结果是它声明的类型. 运行时的接收者可能是子类, 但基本类型的返回值不会改变
+         */
+        @Override
+        Class<?> type() {
+            final Class<?> type = target.type();
+            if (type == null || type.isPrimitive()) {
+                return null;
+            }
+            final Accessor accessor;
+            try {
+                accessor = resolve(type);
+            } catch (final Unsupported e) {
+                return null;
+            }
+            for (int index = 0; index < arity(); index++) {
+                if (!accepts(accessor.parameters[index], arguments[index].type())) {
+                    return null;
+                }
+            }
+            return accessor.returnType == void.class ? null : accessor.returnType;
+        }
+
+        /**
+         * @return 声明为{@code type}的参数值是否一定可以传给{@code parameter}参数. 数字字面量的值可能是{@code Integer}或{@code Double}
+         */
+        private static boolean accepts(final Class<?> parameter, final Class<?> type) {
+            if (type == null) {
+                return false;
+            }
+            if (type == double.class) {
+                return parameter.isAssignableFrom(Number.class);
+            }
+            if (type == boolean.class) {
+                return parameter.isAssignableFrom(Boolean.class);
+            }
+            return !type.isPrimitive() && parameter.isAssignableFrom(type);
+        }
+
+        /**
+         * @return 是否是{@code mascot.environment}
+         */
+        private boolean isEnvironment() {
+            return arguments == null && name.equals("environment")
+                    && target instanceof Identifier && ((Identifier) target).name.equals("mascot");
+        }
+
+        private Accessor accessor(final Object receiver) {
+            Accessor accessor = this.accessor;
+            if (accessor == null || accessor.type != receiver.getClass()) {
+                accessor = resolve(receiver.getClass());
+                this.accessor = accessor;
+            }
+            return accessor;
+        }
+
+        private Accessor resolve(final Class<?> type) {
+            if (Map.class.isAssignableFrom(type) || type == Class.class || type.getName().startsWith("java.lang.reflect.")
+                    || type.getName().startsWith("org.openjdk.nashorn.") || name.equals("class") || name.equals("getClass")) {
+                throw Unsupported.INSTANCE;
+            }
+
+            try {
+                if (arguments != null) {
+                    final Method method = findMethod(type, name, arguments.length);
+                    if (method == null || arguments.length > 2) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    for (final Class<?> parameter : method.getParameterTypes()) {
+                        if (parameter.isPrimitive()) {
+                            throw Unsupported.INSTANCE;
+                        }
+                    }
+                    return new Accessor(type, LOOKUP.unreflect(method), method.getParameterTypes());
+                }
+
+                final String property = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                Method getter = findMethod(type, "get" + property, 0);
+                if (getter == null || getter.getReturnType() == void.class) {
+                    getter = findMethod(type, "is" + property, 0);
+                    if (getter != null && getter.getReturnType() != boolean.class) {
+                        getter = null;
+                    }
+                }
+                if (getter != null) {
+                    return new Accessor(type, LOOKUP.unreflect(getter), new Class<?>[0]);
+                }
+
+                final Field field = type.getField(name);
+                if (Modifier.isStatic(field.getModifiers()) || !Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+                    throw Unsupported.INSTANCE;
+                }
+                return new Accessor(type, LOOKUP.unreflectGetter(field), new Class<?>[0]);
+            } catch (final NoSuchFieldException | IllegalAccessException | SecurityException e) {
+                throw Unsupported.INSTANCE;
+            }
+        }
+
+        @Override
+        Object value(final Bindings bindings) {
+            final Object receiver = receiver(bindings);
+            final Accessor accessor = accessor(receiver);
+            try {
+                switch (arity()) {
+                    case 0:
+                        call();
+                        return (Object) accessor.object.invokeExact(receiver);
+                    case 1: {
+                        final Object first = argument(accessor, 0, bindings);
+                        call();
+                        return (Object) accessor.object.invokeExact(receiver, first);
+                    }
+                    default: {
+                        final Object first = argument(accessor, 0, bindings);
+                        final Object second = argument(accessor, 1, bindings);
+                        call();
+                        return (Object) accessor.object.invokeExact(receiver, first, second);
+                    }
+                }
+            } catch (final Unsupported e) {
+                throw e;
+            } catch (final Throwable e) {
+                // 让 Nashorn 重新计算并报告同样的错误. 调用的是方法时, 由 evaluate 改为 AFTER_CALL, 直接报告错误
+                throw Unsupported.INSTANCE;
+            }
+        }
+
+        @Override
+        double number(final Bindings bindings) {
+            final Object receiver = receiver(bindings);
+            final Accessor accessor = accessor(receiver);
+            if (accessor.number == null) {
+                if (!accessor.mayReturn(Number.class)) {
+                    throw Unsupported.INSTANCE;
+                }
+                return super.number(bindings);
+            }
+            try {
+                switch (arity()) {
+                    case 0:
+                        call();
+                        return (double) accessor.number.invokeExact(receiver);
+                    case 1: {
+                        final Object first = argument(accessor, 0, bindings);
+                        call();
+                        return (double) accessor.number.invokeExact(receiver, first);
+                    }
+                    default: {
+                        final Object first = argument(accessor, 0, bindings);
+                        final Object second = argument(accessor, 1, bindings);
+                        call();
+                        return (double) accessor.number.invokeExact(receiver, first, second);
+                    }
+                }
+            } catch (final Unsupported e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw Unsupported.INSTANCE;
+            }
+        }
+
+        @Override
+        boolean bool(final Bindings bindings) {
+            final Object receiver = receiver(bindings);
+            final Accessor accessor = accessor(receiver);
+            if (accessor.bool == null) {
+                if (!accessor.mayReturn(Boolean.class)) {
+                    throw Unsupported.INSTANCE;
+                }
+                return super.bool(bindings);
+            }
+            try {
+                switch (arity()) {
+                    case 0:
+                        call();
+                        return (boolean) accessor.bool.invokeExact(receiver);
+                    case 1: {
+                        final Object first = argument(accessor, 0, bindings);
+                        call();
+                        return (boolean) accessor.bool.invokeExact(receiver, first);
+                    }
+                    default: {
+                        final Object first = argument(accessor, 0, bindings);
+                        final Object second = argument(accessor, 1, bindings);
+                        call();
+                        return (boolean) accessor.bool.invokeExact(receiver, first, second);
+                    }
+                }
+            } catch (final Unsupported e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw Unsupported.INSTANCE;
+            }
+        }
+
+        private int arity() {
+            return arguments == null ? 0 : arguments.length;
+        }
+
+        /**
+         * 在调用方法之前记录一次调用, 属性的 getter 不算
+         */
+        private void call() {
+            if (arguments != null) {
+                callCounts.get()[0]++;
+            }
+        }
+
+        private Object receiver(final Bindings bindings) {
+            final Object receiver = target.value(bindings);
+            if (receiver == null) {
+                throw Unsupported.INSTANCE;
+            }
+            return receiver;
+        }
+
+        private Object argument(final Accessor accessor, final int index, final Bindings bindings) {
+            final Object argument = arguments[index].value(bindings);
+            if (argument != null && !accessor.parameters[index].isInstance(argument)) {
+                throw Unsupported.INSTANCE;
+            }
+            return argument;
+        }
+    }
+
+    /**
+     * 找到一个可以调用的公有方法. 如果方法声明在非公有的类中, 就改用公有父类或接口中的同一个方法
+     * @return 唯一的同名、同参数个数的方法, 没有或有重载时返回{@code null}
+     */
+    private static Method findMethod(final Class<?> type, final String name, final int parameterCount) {
+        Method found = null;
+        for (final Method method : type.getMethods()) {
+            if (!method.getName().equals(name) || method.getParameterCount() != parameterCount
+                    || Modifier.isStatic(method.getModifiers()) || method.isBridge()) {
+                continue;
+            }
+            if (found != null && !Arrays.equals(found.getParameterTypes(), method.getParameterTypes())) {
+                return null;
+            }
+            if (found == null || found.getReturnType().isAssignableFrom(method.getReturnType())) {
+                found = method;
+            }
+        }
+        if (found == null || Modifier.isPublic(found.getDeclaringClass().getModifiers())) {
+            return found;
+        }
+        return findPublicDeclaration(found.getDeclaringClass(), found);
+    }
+
+    private static Method findPublicDeclaration(final Class<?> type, final Method method) {
+        if (type == null) {
+            return null;
+        }
+        if (Modifier.isPublic(type.getModifiers())) {
+            try {
+                return type.getMethod(method.getName(), method.getParameterTypes());
+            } catch (final NoSuchMethodException e) {
+                // 继续在父类和接口中查找
+            }
+        }
+        for (final Class<?> implemented : type.getInterfaces()) {
+            final Method declaration = findPublicDeclaration(implemented, method);
+            if (declaration != null) {
+                return declaration;
+            }
+        }
+        return findPublicDeclaration(type.getSuperclass(), method);
+    }
+
+    /**
+     * 语法子集的递归下降解析器. 超出子集的脚本会抛出{@link IllegalArgumentException}
+     */
+    private static final class Parser {
+        private final String source;
+
+        private int position;
+
+        /**
+         * 解析到的脚本中是否有方法调用
+         */
+        private boolean calls;
+
+        private Parser(final String source) {
+            this.source = source;
+        }
+
+        private Node parse() {
+            final Node node = conditional();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw unsupported("unexpected '" + source.charAt(position) + "'");
+            }
+            return node;
+        }
+
+        private Node conditional() {
+            final Node test = or();
+            if (!accept("?")) {
+                return test;
+            }
+            final Node whenTrue = conditional();
+            expect(":");
+            final Node whenFalse = conditional();
+            return new Conditional(test, whenTrue, whenFalse);
+        }
+
+        private Node or() {
+            Node node = and();
+            while (accept("||")) {
+                node = new Logical(false, node, and());
+            }
+            return node;
+        }
+
+        private Node and() {
+            Node node = equality();
+            while (accept("&&")) {
+                node = new Logical(true, node, equality());
+            }
+            return node;
+        }
+
+        private Node equality() {
+            Node node = relational();
+            while (true) {
+                if (accept("===")) {
+                    node = new Equality(false, true, node, relational());
+                } else if (accept("!==")) {
+                    node = new Equality(true, true, node, relational());
+                } else if (accept("==")) {
+                    node = new Equality(false, false, node, relational());
+                } else if (accept("!=")) {
+                    node = new Equality(true, false, node, relational());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node relational() {
+            Node node = additive();
+            while (true) {
+                if (accept("<=")) {
+                    node = new Compare("<=", node, additive());
+                } else if (accept(">=")) {
+                    node = new Compare(">=", node, additive());
+                } else if (accept("<")) {
+                    node = new Compare("<", node, additive());
+                } else if (accept(">")) {
+                    node = new Compare(">", node, additive());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node additive() {
+            Node node = multiplicative();
+            while (true) {
+                if (accept("+")) {
+                    node = new Arithmetic('+', node, multiplicative());
+                } else if (accept("-")) {
+                    node = new Arithmetic('-', node, multiplicative());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node multiplicative() {
+            Node node = unary();
+            while (true) {
+                if (accept("*")) {
+                    node = new Arithmetic('*', node, unary());
+                } else if (accept("/")) {
+                    node = new Arithmetic('/', node, unary());
+                } else if (accept("%")) {
+                    node = new Arithmetic('%', node, unary());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node unary() {
+            if (accept("!")) {
+                return new Not(unary());
+            }
+            if (accept("-")) {
+                final Node operand = unary();
+                if (operand instanceof NumberLiteral) {
+                    final NumberLiteral literal = (NumberLiteral) operand;
+                    return new NumberLiteral(-literal.number, literal.value instanceof Integer);
+                }
+                return new Negate(operand);
+            }
+            if (accept("+")) {
+                // 一元加号会把字符串转换成数字, 只接受数字
+                final Node operand = unary();
+                if (operand.kind() != Kind.NUMBER) {
+                    throw unsupported("unary plus");
+                }
+                return operand;
+            }
+            return postfix();
+        }
+
+        private Node postfix() {
+            skipWhitespace();
+            if (peekIdentifier().equals("Math")) {
+                return math();
+            }
+
+            Node node = primary();
+            while (accept(".")) {
+                final String name = identifier();
+                final boolean call = peek("(");
+                calls |= call;
+                node = new Member(node, name, call ? arguments() : null);
+            }
+            if (peek("(") || peek("[")) {
+                throw unsupported("call or index");
+            }
+            return node;
+        }
+
+        private Node math() {
+            identifier();
+            expect(".");
+            final String name = identifier();
+            switch (name) {
+                case "PI":
+                    return new NumberLiteral(Math.PI, false);
+                case "E":
+                    return new NumberLiteral(Math.E, false);
+                case "random":
+                case "abs":
+                case "ceil":
+                case "floor":
+                case "round":
+                case "sqrt":
+                case "pow":
+                case "min":
+                case "max":
+                    if (!peek("(")) {
+                        throw unsupported("Math." + name + " without a call");
+                    }
+                    return new MathCall(name, arguments());
+                default:
+                    throw unsupported("Math." + name);
+            }
+        }
+
+        private Node[] arguments() {
+            expect("(");
+            final List<Node> arguments = new ArrayList<>();
+            if (!accept(")")) {
+                do {
+                    arguments.add(conditional());
+                } while (accept(","));
+                expect(")");
+            }
+            return arguments.toArray(new Node[0]);
+        }
+
+        private Node primary() {
+            skipWhitespace();
+            if (accept("(")) {
+                final Node node = conditional();
+                expect(")");
+                return node;
+            }
+            if (position < source.length() && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+                return number();
+            }
+
+            final String name = identifier();
+            switch (name) {
+                case "true":
+                    return new BooleanLiteral(true);
+                case "false":
+                    return new BooleanLiteral(false);
+                case "Infinity":
+                    return new NumberLiteral(Double.POSITIVE_INFINITY, false);
+                case "NaN":
+                    return new NumberLiteral(Double.NaN, false);
+                case "null":
+                case "undefined":
+                case "this":
+                case "new":
+                case "typeof":
+                case "void":
+                case "delete":
+                case "function":
+                case "var":
+                case "let":
+                case "const":
+                case "in":
+                case "instanceof":
+                    throw unsupported("keyword " + name);
+                default:
+                    return new Identifier(name);
+            }
+        }
+
+        private Node number() {
+            final int start = position;
+            boolean integer = true;
+            while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                position++;
+            }
+            if (position < source.length() && source.charAt(position) == '.') {
+                integer = false;
+                position++;
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+            }
+            if (position < source.length() && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+                integer = false;
+                position++;
+                if (position < source.length() && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                    position++;
+                }
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+            }
+            final String text = source.substring(start, position);
+            // 以0开头的整数在 JavaScript 中可能是八进制
+            if (text.length() > 1 && text.charAt(0) == '0' && Character.isDigit(text.charAt(1))) {
+                throw unsupported("octal literal " + text);
+            }
+            if (position < source.length() && Character.isJavaIdentifierPart(source.charAt(position))) {
+                throw unsupported("number literal " + text);
+            }
+            try {
+                return new NumberLiteral(Double.parseDouble(text), integer);
+            } catch (final NumberFormatException e) {
+                throw unsupported("number literal " + text);
+            }
+        }
+
+        private String peekIdentifier() {
+            int end = position;
+            while (end < source.length() && isIdentifierPart(source.charAt(end), end == position)) {
+                end++;
+            }
+            return source.substring(position, end);
+        }
+
+        private String identifier() {
+            skipWhitespace();
+            final String name = peekIdentifier();
+            if (name.isEmpty()) {
+                throw unsupported(position < source.length() ? "unexpected '" + source.charAt(position) + "'" : "unexpected end");
+            }
+            position += name.length();
+            return name;
+        }
+
+        private static boolean isIdentifierPart(final char c, final boolean first) {
+            if (c == '$' || c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                return true;
+            }
+            return !first && c >= '0' && c <= '9';
+        }
+
+        private boolean peek(final String token) {
+            skipWhitespace();
+            return source.startsWith(token, position);
+        }
+
+        /**
+         * 如果接下来是{@code token}就跳过它. 不会把{@code ==}的前半部分当成{@code =}之类的单个字符运算符
+         */
+        private boolean accept(final String token) {
+            skipWhitespace();
+            if (!source.startsWith(token, position)) {
+                return false;
+            }
+            final int end = position + token.length();
+            if (end < source.length()) {
+                final char next = source.charAt(end);
+                final char last = token.charAt(token.length() - 1);
+                // 避免把 <= 当成 <, 把 !== 当成 !=
+                if (next == '=' && "<>=!".indexOf(last) >= 0) {
+                    return false;
+                }
+                // ++ 和 -- 会修改变量
+                if ((token.equals("+") || token.equals("-")) && next == last) {
+                    throw unsupported("operator " + token + next);
+                }
+            }
+            position = end;
+            return true;
+        }
+
+        private void expect(final String token) {
+            if (!accept(token)) {
+                throw unsupported("expected '" + token + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException unsupported(final String reason) {
+            return new IllegalArgumentException(reason + " at " + position);
+        }
+    }
+}
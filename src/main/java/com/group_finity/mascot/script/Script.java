@@ -1,53 +1,43 @@
 package com.group_finity.mascot.script;
 
-import javax.script.CompiledScript;
-import javax.script.ScriptException;
-
-import org.openjdk.nashorn.api.scripting.NashornScriptEngine;
-import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
-
-import com.group_finity.mascot.Main;
 import com.group_finity.mascot.exception.VariableException;
 
 /**
- * 一个用于执行JavaScript资源的类
+ * 一个用于执行JavaScript资源的类. 编译好的脚本来自共用的{@link Expression}, 这里只保存这个实例自己的求值结果.
+ * 每个动作都有自己的实例, 求值不加锁; 两个线程同时求值时可能各算一次, 保留后写入的结果
  */
 public class Script extends Variable {
-    
-    /**Nashorn引擎，用于运行和编译JavaScript资源 */
-    private static final NashornScriptEngine ENGINE = (NashornScriptEngine) new NashornScriptEngineFactory().getScriptEngine(new ScriptFilter());
-
-
-    private final String source;
+    private final Expression expression;
 
     /** 是否在初始化Frame前清空Script.value */
     private final boolean clearAtInitFrame;
 
-    /**CompiledScript可以将ScriptEngine解析一段脚本的结果存起来，方便多次调用。要用的时候每次调用一下CompiledScript.eval()即可，一般适合用于js函数的使用。*/
-    private final CompiledScript compiled;
-
-    private Object value;
+    private volatile Object value;
 
     /**
-     * 创建用于执行JS资源的Script对象
+     * 创建用于执行JS资源的Script对象. 相同的JS资源只会编译一次
      * @param source JS资源
      * @param clearAtInitFrame 是否在初始化Frame前清空Script.value
-     * @throws VariableException
+     * @throws VariableException 编译失败时抛出
      */
     public Script(final String source, final boolean clearAtInitFrame) throws VariableException{
-        this.source = source;
+        this(compile((clearAtInitFrame ? "#{" : "${") + source + "}"), clearAtInitFrame);
+    }
+
+    Script(final Expression expression, final boolean clearAtInitFrame) {
+        this.expression = expression;
         this.clearAtInitFrame = clearAtInitFrame;
-        // 尝试让Nashorn引擎编译读取的本地JS资源
-        try {
-            this.compiled = ENGINE.compile(source);
-        } catch (final ScriptException e) {
-            throw new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptCompilationErrorMessage") + ": " + this.source, e);
-        }
+    }
+
+    private static Expression compile(final String text) throws VariableException {
+        final Expression expression = Expression.parse(text);
+        expression.checkCompiled();
+        return expression;
     }
 
     @Override
     public String toString() {
-        return clearAtInitFrame ? "#{" + source + "}" : "${" + source + "}";
+        return expression.toString();
     }
 
     @Override
@@ -63,19 +53,16 @@ public class Script extends Variable {
     }
 
     @Override
-    public synchronized Object get(final VariableMap variables) throws VariableException {
-        if (this.value != null) {
-            return this.value;
+    public Object get(final VariableMap variables) throws VariableException {
+        Object value = this.value;
+        if (value != null) {
+            return value;
         }
 
-        try {
-            // 传入variables占位符，执行CompiledScript后返回结果
-            this.value = compiled.eval(variables);
-        } catch (Exception e) {
-            throw new VariableException(Main.getInstance().getLanguageBundle().getString("ScriptEvaluationErrorMessage") + ": " + this.source, e);
-        }
+        // 传入variables占位符，执行编译好的脚本后返回结果
+        value = ScriptProfiler.evaluate(expression, variables, variables.getLayout().getName());
+        this.value = value;
 
-        return this.value;
+        return value;
     }
 }
-
@@ -0,0 +1,216 @@
+package com.group_finity.mascot.script;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.script.Bindings;
+
+import com.group_finity.mascot.exception.VariableException;
+
+/**
+ * 可选的脚本性能分析(设置项{@code ScriptProfiler}, 也可以在调试窗口中打开): 按脚本文本和所属的图片集与动作或行为,
+ * 统计求值次数、总耗时、最长耗时和失败次数, 用来找出拖慢一个图片集的脚本.
+ * 多个图片集中相同名称的动作分开统计, 多个行为共用的条件记在{@link #shared(String, int)}名下, 而不是记给先计算它的行为.
+ * <p>
+ * 关闭时每次求值只多读取一次{@code volatile}变量. 统计可以导出到{@link #FILE}, 也可以在调试窗口中查看.
+ */
+public final class ScriptProfiler {
+    /**
+     * 导出统计的文件, 与日志文件在同一个目录
+     */
+    public static final Path FILE = Path.of("ScriptProfile.txt");
+
+    private static volatile boolean enabled;
+
+    /**
+     * 所属的图片集与动作或行为 -> 脚本文本 -> 统计
+     */
+    private static final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+
+    private ScriptProfiler() {
+    }
+
+    /**
+     * 一个脚本在一个动作或行为中的统计
+     */
+    public static final class Entry {
+        private final String owner;
+
+        private final String script;
+
+        private long count;
+
+        private long totalNanos;
+
+        private long maxNanos;
+
+        private long failures;
+
+        private Entry(final String owner, final String script) {
+            this.owner = owner;
+            this.script = script;
+        }
+
+        private synchronized void record(final long nanos, final boolean failed) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (failed) {
+                failures++;
+            }
+        }
+
+        /**
+         * @return 当前统计的副本, 之后的求值不会改变它
+         */
+        private synchronized Entry copy() {
+            final Entry copy = new Entry(owner, script);
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            copy.failures = failures;
+            return copy;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public String getScript() {
+            return script;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+    }
+
+    /**
+     * @param imageSet 图片集的名称, 不知道时为{@code null}
+     * @param name 动作或行为的名称
+     * @return 统计中使用的所属名称, 如{@code "Shimeji/Walk"}
+     */
+    public static String owner(final String imageSet, final String name) {
+        return imageSet == null ? name : imageSet + "/" + name;
+    }
+
+    /**
+     * @param imageSet 图片集的名称, 不知道时为{@code null}
+     * @param behaviors 共用这个脚本的行为的数量
+     * @return 多个行为共用的条件在统计中使用的所属名称
+     */
+    public static String shared(final String imageSet, final int behaviors) {
+        return owner(imageSet, "(" + behaviors + " behaviors)");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        ScriptProfiler.enabled = enabled;
+    }
+
+    /**
+     * 计算表达式的值, 启用时记录耗时和是否失败
+     * @param owner 脚本所属的图片集与动作或行为, 由{@link #owner(String, String)}生成, 不知道时为{@code null}
+     * @throws VariableException 脚本编译或执行失败时抛出
+     */
+    public static Object evaluate(final Expression expression, final Bindings bindings, final String owner) throws VariableException {
+        if (!enabled || expression.isConstant()) {
+            return expression.evaluate(bindings);
+        }
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final Object value = expression.evaluate(bindings);
+            failed = false;
+            return value;
+        } finally {
+            record(owner, expression.toString(), System.nanoTime() - start, failed);
+        }
+    }
+
+    private static void record(final String owner, final String script, final long nanos, final boolean failed) {
+        final String key = owner == null ? "-" : owner;
+        // 先用 get 查找, 只有第一次遇到时才创建捕获参数的 lambda
+        Map<String, Entry> scripts = entries.get(key);
+        if (scripts == null) {
+            scripts = entries.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        Entry entry = scripts.get(script);
+        if (entry == null) {
+            entry = scripts.computeIfAbsent(script, k -> new Entry(key, script));
+        }
+        entry.record(nanos, failed);
+    }
+
+    public static void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return 所有统计的副本, 按总耗时从大到小排列
+     */
+    public static List<Entry> getEntries() {
+        final List<Entry> list = new ArrayList<>();
+        for (final Map<String, Entry> scripts : entries.values()) {
+            for (final Entry entry : scripts.values()) {
+                list.add(entry.copy());
+            }
+        }
+        list.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return list;
+    }
+
+    /**
+     * @param limit 最多列出的脚本数量
+     * @return 按总耗时从大到小排列的统计表, 每行一个脚本
+     */
+    public static String getReport(final int limit) {
+        final List<Entry> list = getEntries();
+        final StringBuilder builder = new StringBuilder(String.format("%10s %10s %10s %10s %8s  %-32s %s%n",
+                "total ms", "calls", "avg us", "max us", "errors", "image set/action or behavior", "script"));
+        for (final Entry entry : list.subList(0, Math.min(limit, list.size()))) {
+            final long count = entry.getCount();
+            builder.append(String.format("%10.2f %10d %10.2f %10.1f %8d  %-32s %s%n",
+                    entry.getTotalNanos() / 1e6, count, count == 0 ? 0.0 : entry.getTotalNanos() / 1e3 / count,
+                    entry.getMaxNanos() / 1e3, entry.getFailures(), entry.getOwner(), entry.getScript()));
+        }
+        if (list.size() > limit) {
+            builder.append(String.format("... %d more%n", list.size() - limit));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 把全部统计写入{@link #FILE}
+     * @return 写入的文件
+     */
+    public static Path dump() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(FILE)) {
+            writer.write(getReport(Integer.MAX_VALUE));
+        }
+        return FILE;
+    }
+}
@@ -0,0 +1,318 @@
+package com.group_finity.mascot.script;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openjdk.nashorn.api.tree.BlockTree;
+import org.openjdk.nashorn.api.tree.CompilationUnitTree;
+import org.openjdk.nashorn.api.tree.DoWhileLoopTree;
+import org.openjdk.nashorn.api.tree.ExpressionStatementTree;
+import org.openjdk.nashorn.api.tree.ForInLoopTree;
+import org.openjdk.nashorn.api.tree.ForLoopTree;
+import org.openjdk.nashorn.api.tree.FunctionDeclarationTree;
+import org.openjdk.nashorn.api.tree.FunctionExpressionTree;
+import org.openjdk.nashorn.api.tree.LiteralTree;
+import org.openjdk.nashorn.api.tree.Parser;
+import org.openjdk.nashorn.api.tree.SimpleTreeVisitorES5_1;
+import org.openjdk.nashorn.api.tree.StatementTree;
+import org.openjdk.nashorn.api.tree.Tree;
+import org.openjdk.nashorn.api.tree.WhileLoopTree;
+
+/**
+ * 脚本求值的时间限制(设置项{@code ScriptTimeBudget}, 单位毫秒, 0为不限制).
+ * <p>
+ * 只有循环和函数调用能让脚本一直运行下去, 所以含有它们的 Nashorn 脚本在编译前由{@link #instrument(String)}
+ * 在每个循环体和函数体的开头插入一次检查. 后台的看门狗线程定期检查正在进行的求值, 把超时的求值标记为过期,
+ * 脚本下一次经过检查时就会抛出异常结束. 嵌套的求值共用最外层的截止时间, 超时算在最外层的脚本上. 其它脚本不会一直运行, 求值时没有额外的开销.
+ */
+public final class ScriptWatchdog {
+    private static final Logger log = Logger.getLogger(ScriptWatchdog.class.getName());
+
+    /**
+     * 默认的时间限制(毫秒). 每帧的间隔是40毫秒, 正常的脚本远远用不了这么久
+     */
+    public static final long DEFAULT_BUDGET = 200;
+
+    /**
+     * 脚本第一次求值时 Nashorn 还要编译其中的函数, 时间限制放宽为这个倍数
+     */
+    private static final int FIRST_EVALUATION_FACTOR = 10;
+
+    /**
+     * 插入的检查通过这个名称调用当前线程的{@link Watch}
+     */
+    static final String BINDING = "__watchdog";
+
+    private static final String CHECK = BINDING + ".check();";
+
+    private static volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET);
+
+    /**
+     * 所有执行过受检查的脚本的线程
+     */
+    private static final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+
+    private static final ThreadLocal<Watch> current = ThreadLocal.withInitial(() -> {
+        final Watch watch = new Watch();
+        watches.add(watch);
+        return watch;
+    });
+
+    private static final AtomicBoolean started = new AtomicBoolean();
+
+    private ScriptWatchdog() {
+    }
+
+    /**
+     * 一个线程正在进行的受检查的求值
+     */
+    public static final class Watch {
+        private final Thread thread = Thread.currentThread();
+
+        /**
+         * 嵌套的受检查求值的层数, 只在所属的线程中读写
+         */
+        private int depth;
+
+        /**
+         * 最外层求值的截止时间, 没有在求值时为0
+         */
+        private long deadline;
+
+        private volatile boolean expired;
+
+        private Watch() {
+        }
+
+        /**
+         * 由插入脚本的检查调用, 求值已经超时时抛出异常
+         */
+        public void check() {
+            if (expired) {
+                throw Expired.INSTANCE;
+            }
+        }
+
+        private synchronized void start(final long deadline) {
+            this.deadline = deadline;
+            expired = false;
+        }
+
+        private synchronized boolean finish() {
+            deadline = 0;
+            final boolean expired = this.expired;
+            this.expired = false;
+            return expired;
+        }
+
+        private synchronized void inspect(final long now) {
+            if (deadline != 0 && !expired && now - deadline > 0) {
+                expired = true;
+            }
+        }
+    }
+
+    /**
+     * 插入的检查在求值超时后抛出的异常, 不记录调用栈
+     */
+    private static final class Expired extends RuntimeException {
+        private static final Expired INSTANCE = new Expired();
+
+        private Expired() {
+            super("Script time budget exceeded", null, false, false);
+        }
+    }
+
+    public static long getBudget() {
+        return TimeUnit.NANOSECONDS.toMillis(budgetNanos);
+    }
+
+    /**
+     * @param budget 一次求值的时间限制(毫秒), 0为不限制
+     */
+    public static void setBudget(final long budget) {
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, budget));
+    }
+
+    /**
+     * @return 当前线程的{@link Watch}, 由{@link Expression}放进这个线程的 Nashorn 全局对象
+     */
+    static Watch watch() {
+        return current.get();
+    }
+
+    /**
+     * 开始一次受检查的求值. 嵌套的求值共用最外层的截止时间
+     * @param first 是否是这个脚本第一次求值
+     * @return 传给{@link #end(Watch)}的对象, 不限制时间时为{@code null}
+     */
+    static Watch begin(final boolean first) {
+        final long budget = budgetNanos;
+        if (budget == 0) {
+            return null;
+        }
+        final Watch watch = current.get();
+        if (watch.depth++ == 0) {
+            watch.start(System.nanoTime() + (first ? budget * FIRST_EVALUATION_FACTOR : budget));
+            if (started.compareAndSet(false, true)) {
+                final Thread thread = new Thread(ScriptWatchdog::run, "ScriptWatchdog");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+        return watch;
+    }
+
+    /**
+     * 结束一次受检查的求值
+     * @return 这次求值是否超时. 嵌套的求值超时时也返回{@code true}, 用{@link #isNested(Watch)}区分
+     */
+    static boolean end(final Watch watch) {
+        if (--watch.depth > 0) {
+            return watch.expired;
+        }
+        return watch.finish();
+    }
+
+    /**
+     * @return 刚刚{@link #end(Watch) 结束}的求值是否嵌套在另一个受检查的求值中
+     */
+    static boolean isNested(final Watch watch) {
+        return watch.depth > 0;
+    }
+
+    private static void run() {
+        while (true) {
+            final long budget = budgetNanos;
+            try {
+                // 最多超出限制四分之一就会被发现
+                Thread.sleep(budget == 0 ? 1000 : Math.max(1, Math.min(50, TimeUnit.NANOSECONDS.toMillis(budget) / 4)));
+            } catch (final InterruptedException e) {
+                return;
+            }
+
+            final long now = System.nanoTime();
+            for (final Watch watch : watches) {
+                if (watch.thread.isAlive()) {
+                    watch.inspect(now);
+                } else {
+                    watches.remove(watch);
+                }
+            }
+        }
+    }
+
+    /**
+     * 在脚本的每个循环体和函数体开头插入检查
+     * @param source JavaScript 资源
+     * @return 插入检查后的脚本, 没有循环和函数, 或者无法解析(编译时会报告错误)时返回{@code null}
+     */
+    static String instrument(final String source) {
+        if (!source.contains("for") && !source.contains("while") && !source.contains("function")) {
+            return null;
+        }
+
+        final CompilationUnitTree tree;
+        try {
+            tree = Parser.create().parse("<script>", source, null);
+        } catch (final RuntimeException e) {
+            log.log(Level.FINE, "Failed to parse \"" + source + "\" for the script watchdog", e);
+            return null;
+        }
+        if (tree == null) {
+            return null;
+        }
+
+        // 插入位置和文本, 同一位置按加入的顺序插入
+        final List<long[]> positions = new ArrayList<>();
+        final List<String> texts = new ArrayList<>();
+        tree.accept(new SimpleTreeVisitorES5_1<Void, Void>() {
+            private void wrap(final StatementTree body) {
+                // 把循环体整个包进一个块, 单独的语句和块都适用. 语句的结束位置不包括后面的分号
+                int end = (int) body.getEndPosition();
+                int next = end;
+                while (next < source.length() && Character.isWhitespace(source.charAt(next))) {
+                    next++;
+                }
+                if (next < source.length() && source.charAt(next) == ';') {
+                    end = next + 1;
+                }
+                positions.add(new long[]{body.getStartPosition(), positions.size()});
+                texts.add("{" + CHECK);
+                positions.add(new long[]{end, positions.size()});
+                texts.add("}");
+            }
+
+            private void enter(final Tree body) {
+                if (!(body instanceof BlockTree)) {
+                    return;
+                }
+                // 插在开头的指令(如"use strict")之后
+                for (final StatementTree statement : ((BlockTree) body).getStatements()) {
+                    if (statement instanceof ExpressionStatementTree
+                            && ((ExpressionStatementTree) statement).getExpression() instanceof LiteralTree
+                            && ((LiteralTree) ((ExpressionStatementTree) statement).getExpression()).getValue() instanceof String) {
+                        continue;
+                    }
+                    positions.add(new long[]{statement.getStartPosition(), positions.size()});
+                    texts.add(CHECK);
+                    return;
+                }
+            }
+
+            @Override
+            public Void visitWhileLoop(final WhileLoopTree node, final Void unused) {
+                wrap(node.getStatement());
+                return super.visitWhileLoop(node, unused);
+            }
+
+            @Override
+            public Void visitDoWhileLoop(final DoWhileLoopTree node, final Void unused) {
+                wrap(node.getStatement());
+                return super.visitDoWhileLoop(node, unused);
+            }
+
+            @Override
+            public Void visitForLoop(final ForLoopTree node, final Void unused) {
+                wrap(node.getStatement());
+                return super.visitForLoop(node, unused);
+            }
+
+            @Override
+            public Void visitForInLoop(final ForInLoopTree node, final Void unused) {
+                wrap(node.getStatement());
+                return super.visitForInLoop(node, unused);
+            }
+
+            @Override
+            public Void visitFunctionExpression(final FunctionExpressionTree node, final Void unused) {
+                enter(node.getBody());
+                return super.visitFunctionExpression(node, unused);
+            }
+
+            @Override
+            public Void visitFunctionDeclaration(final FunctionDeclarationTree node, final Void unused) {
+                enter(node.getBody());
+                return super.visitFunctionDeclaration(node, unused);
+            }
+        }, null);
+
+        if (positions.isEmpty()) {
+            return null;
+        }
+
+        // 从后往前插入, 前面的位置不会改变
+        positions.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : Long.compare(b[1], a[1]));
+        final StringBuilder builder = new StringBuilder(source);
+        for (final long[] position : positions) {
+            builder.insert((int) position[0], texts.get((int) position[1]));
+        }
+        return builder.toString();
+    }
+}
@@ -6,20 +6,15 @@ import com.group_finity.mascot.exception.VariableException;
  * 用于获取在 JavaScript资源 中读取的参数
  */
 public abstract class Variable {
+    /**
+     * 解析配置文件中的参数. 解析结果来自{@link Expression}的编译缓存, 相同的文本只会编译一次
+     * @param source 原始文本
+     * @return 新的{@code Variable}实例, {@code source}为{@code null}时返回{@code null}
+     * @throws VariableException 脚本编译失败时抛出
+     */
     public static Variable parse(final String source) throws VariableException {
-        Variable result = null;
-
-        if (source != null) {
-            if (source.startsWith("${") && source.endsWith("}")) {
-                result = new Script(source.substring(2, source.length() -1 ), false);
-            } else if (source.startsWith("#{") && source.endsWith("}")) {
-                result = new Script(source.substring(2, source.length() - 1), true);
-            } else {
-                result = new Constant(parseConstant(source));
-            }
-        }
-
-        return result;
+        final Expression expression = Expression.parse(source);
+        return expression == null ? null : expression.toVariable();
     }
 
     /**
@@ -1,88 +1,342 @@
 package com.group_finity.mascot.script;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.script.Bindings;
 
-import com.group_finity.mascot.Main;
 import com.group_finity.mascot.exception.VariableException;
 
 /**
  * 一个实现了Bindings接口的哈希表，是用来存放数据的容器。它有3个层级，为Global级、Engine级和Local级，前2者通过ScriptEngine.getBindings()获得，是唯一的对象，而Local Binding由ScriptEngine.createBindings()获得，每次都产生一个新的实例。
  * Global对应到工厂，Engine对应到ScriptEngine，向这2者里面加入任何数据或者编译后的脚本执行对象，在每一份新生成的Local Binding里面都会存在。
  * 可以理解为Bindings就是JS中的占位符，目的是动态地控制Java代码的输入和输出。
+ * <p>
+ * 变量按槽位保存: 变量名通过{@link Layout}解析成下标, 同一个动作定义创建的所有{@code VariableMap}共用一个{@code Layout}.
+ * 普通的值直接保存在槽位里, 数字可以不装箱保存, 每帧更新时原地覆盖, 不会再为每个值创建{@link Constant}.
+ * <p>
+ * 读取不需要加锁, 可以在任意线程中与写入同时进行, 读到的是最近写入的值或上一次的值.
+ * 槽位的值用 release 写入、acquire 读取, 读到{@link #NUMBER}标记的线程一定能看到标记之前写入的数字.
+ * 写入应该一次只来自一个线程, 动作的写入由行为在计时器线程和鼠标事件之间串行化.
  */
 public class VariableMap extends AbstractMap<String, Object> implements Bindings{
-    private final Map<String, Variable> rawMap = new LinkedHashMap<>();
+    /**
+     * 变量名到槽位下标的映射. 下标一经分配就不会改变, 所以可以在多个{@code VariableMap}和线程之间共用
+     */
+    public static final class Layout {
+        private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+
+        private volatile String[] names = new String[0];
+
+        /**
+         * 使用这个布局的图片集与动作, 由{@link ScriptProfiler#owner(String, String)}生成, 用于{@link ScriptProfiler}的统计
+         */
+        private final String name;
+
+        public Layout() {
+            this(null);
+        }
+
+        public Layout(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 变量名对应的下标, 没有时分配一个新的下标
+         */
+        public int slot(final String name) {
+            final Integer slot = slots.get(name);
+            return slot != null ? slot : allocate(name);
+        }
+
+        private synchronized int allocate(final String name) {
+            final Integer slot = slots.get(name);
+            if (slot != null) {
+                return slot;
+            }
+            final String[] names = Arrays.copyOf(this.names, this.names.length + 1);
+            names[names.length - 1] = name;
+            this.names = names;
+            slots.put(name, names.length - 1);
+            return names.length - 1;
+        }
+
+        /**
+         * @return 变量名对应的下标, 没有时返回-1
+         */
+        int find(final String name) {
+            final Integer slot = slots.get(name);
+            return slot != null ? slot : -1;
+        }
+
+        String name(final int slot) {
+            return names[slot];
+        }
+    }
+
+    /** 槽位保存的是{@code null}. 没有值的槽位为{@code null} */
+    private static final Object NULL = new Object();
+
+    /** 槽位保存的是一个不装箱的数字, 数字在{@link Slots#numbers}中 */
+    private static final Object NUMBER = new Object();
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** 数字用 opaque 读写, 在32位 JVM 上也不会读到写了一半的{@code double} */
+    private static final VarHandle NUMBERS = MethodHandles.arrayElementVarHandle(double[].class);
+
+    /**
+     * 槽位的存储. 扩容时整体替换, 读取的线程不会看到长度不一致的数组
+     */
+    private static final class Slots {
+        /**
+         * 普通的值, {@link Variable}, 或者{@link #NULL}和{@link #NUMBER}标记
+         */
+        private final Object[] values;
+
+        private final double[] numbers;
+
+        private Slots(final int length) {
+            values = new Object[length];
+            numbers = new double[length];
+        }
+
+        private Slots(final Slots slots, final int length) {
+            values = Arrays.copyOf(slots.values, length);
+            numbers = Arrays.copyOf(slots.numbers, length);
+        }
+    }
+
+    private final Layout layout;
+
+    private volatile Slots slots;
+
+    /**
+     * 在这个变量表上执行 Nashorn 脚本时使用的 Nashorn 全局对象, 第一次需要时才创建.
+     * 脚本中顶层声明的变量保存在这里, 不会被其它动作或 mascot 看到
+     */
+    private volatile Bindings scriptScope;
+
+    public VariableMap() {
+        this(new Layout());
+    }
+
+    /**
+     * @param layout 共用的变量名布局, 同一个动作定义创建的变量表应该使用同一个布局
+     */
+    public VariableMap(final Layout layout) {
+        this.layout = layout;
+        // 布局中已有的变量名通常都会用到, 一次分配够, 不用在 put 时逐步扩容
+        slots = new Slots(layout.names.length);
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @param factory 创建 Nashorn 全局对象, 只在这个变量表第一次执行 Nashorn 脚本时调用
+     * @return 这个变量表自己的 Nashorn 全局对象
+     */
+    Bindings getScriptScope(final Supplier<Bindings> factory) {
+        Bindings scope = scriptScope;
+        if (scope == null) {
+            synchronized (this) {
+                scope = scriptScope;
+                if (scope == null) {
+                    scope = factory.get();
+                    scriptScope = scope;
+                }
+            }
+        }
+        return scope;
+    }
+
+    /**
+     * @return 变量名对应的槽位下标, 变量不存在时也会分配下标, 之后可以用这个下标读写
+     */
+    public int slot(final String name) {
+        return layout.slot(name);
+    }
+
+    /**
+     * @return 槽位中是否有值(包括{@code null}值)
+     */
+    public boolean isSet(final int slot) {
+        final Object[] values = slots.values;
+        return slot >= 0 && slot < values.length && values[slot] != null;
+    }
 
-    public Map<String, Variable> getRawMap() {
-        return this.rawMap;
+    /**
+     * 读取一个槽位的值, {@link Variable}会被计算
+     * @return 槽位中的值, 没有值时返回{@code null}
+     * @throws VariableException 计算{@code Variable}失败时抛出
+     */
+    public Object get(final int slot) throws VariableException {
+        final Slots slots = this.slots;
+        if (slot < 0 || slot >= slots.values.length) {
+            return null;
+        }
+        final Object value = VALUES.getAcquire(slots.values, slot);
+        if (value == null || value == NULL) {
+            return null;
+        }
+        if (value == NUMBER) {
+            return (double) NUMBERS.getOpaque(slots.numbers, slot);
+        }
+        if (value instanceof Variable) {
+            return ((Variable) value).get(this);
+        }
+        return value;
+    }
+
+    /**
+     * @return 槽位中是否是不装箱保存的数字, 可以用{@link #getNumber(int)}读取
+     */
+    boolean isNumber(final int slot) {
+        final Object[] values = slots.values;
+        return slot >= 0 && slot < values.length && VALUES.getAcquire(values, slot) == NUMBER;
+    }
+
+    /**
+     * 只应在{@link #isNumber(int)}返回{@code true}之后调用
+     */
+    double getNumber(final int slot) {
+        return (double) NUMBERS.getOpaque(slots.numbers, slot);
+    }
+
+    public void put(final int slot, final Object value) {
+        VALUES.setRelease(ensureCapacity(slot).values, slot, value == null ? NULL : value);
+    }
+
+    /**
+     * 保存一个数字, 不会装箱
+     */
+    public void put(final int slot, final double value) {
+        final Slots slots = ensureCapacity(slot);
+        // 先写数字再用 release 写标记, 用 acquire 读到标记的线程不会读到其它类型留下的数字
+        NUMBERS.setOpaque(slots.numbers, slot, value);
+        VALUES.setRelease(slots.values, slot, NUMBER);
+    }
+
+    public void put(final String key, final double value) {
+        put(slot(key), value);
+    }
+
+    private Slots ensureCapacity(final int slot) {
+        Slots slots = this.slots;
+        if (slot >= slots.values.length) {
+            slots = new Slots(slots, Math.max(slot + 1, slots.values.length * 2));
+            this.slots = slots;
+        }
+        return slots;
+    }
+
+    /**
+     * @return 槽位中原来保存的{@link Variable}或值, 没有值或是不装箱的数字时返回{@code null}
+     */
+    private Object stored(final int slot) {
+        final Object value = isSet(slot) ? slots.values[slot] : null;
+        return value == NULL || value == NUMBER ? null : value;
     }
 
     public void init() {
-        for (final Variable var : rawMap.values()) {
-            var.init();
+        for (final Object value : slots.values) {
+            if (value instanceof Variable) {
+                ((Variable) value).init();
+            }
         }
     }
 
     public void initFrame() {
-        for (final Variable var : rawMap.values()) {
-            var.initFrame();
+        for (final Object value : slots.values) {
+            if (value instanceof Variable) {
+                ((Variable) value).initFrame();
+            }
         }
     }
 
     /**
-     * 将原始的Map<String, Variable>对象的每个Entry以成Set格式存储
+     * 按下标顺序遍历有值的槽位. 只有遍历时才会创建{@code Map.Entry}, Nashorn 读取变量时走{@link #get(Object)}和{@link #containsKey(Object)}
      */
     public final Set<Map.Entry<String, Object>> entrySet = new AbstractSet<>() {
         // 定义entrySet的迭代器
         @Override
         public Iterator<Map.Entry<String, Object>> iterator() {
             return new Iterator<>() {
-                private final Iterator<Map.Entry<String, Variable>> rawIterator = getRawMap().entrySet().iterator();
+                private int next = advance(0);
+
+                private int current = -1;
+
+                private int advance(int slot) {
+                    final Object[] values = slots.values;
+                    while (slot < values.length && values[slot] == null) {
+                        slot++;
+                    }
+                    return slot;
+                }
 
                 @Override
                 public boolean hasNext() {
-                    return rawIterator.hasNext();
+                    return next < slots.values.length;
                 }
 
                 @Override
                 public Map.Entry<String, Object> next() {
-                    final Map.Entry<String, Variable> rawKeyValue = rawIterator.next();
-                    final Variable value = rawKeyValue.getValue();
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final int slot = next;
+                    current = slot;
+                    next = advance(slot + 1);
 
                     return new Map.Entry<>() {
                         @Override
                         public String getKey() {
-                            return rawKeyValue.getKey();
+                            return layout.name(slot);
                         }
 
                         @Override
                         public Object getValue() {
-                            try {
-                                return value.get(VariableMap.this);
-                            } catch (final VariableException e) {
-                                throw new RuntimeException(e);
-                            }
+                            return VariableMap.this.getValue(slot);
                         }
 
                         @Override
                         public Object setValue(final Object value) {
-                            throw new UnsupportedOperationException(Main.getInstance().getLanguageBundle().getString("SetValueNotSupportedErrorMessage"));
+                            final Object previous = getValue();
+                            put(slot, value);
+                            return previous;
                         }
                     };
                 }
 
                 @Override
                 public void remove() {
-                    rawIterator.remove();
+                    if (current < 0) {
+                        throw new IllegalStateException();
+                    }
+                    clearSlot(current);
+                    current = -1;
                 }
             };
         }
 
         @Override
         public int size() {
-            return getRawMap().size();
+            int size = 0;
+            for (final Object value : slots.values) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
         }
     };
 
@@ -91,16 +345,57 @@ public class VariableMap extends AbstractMap<String, Object> implements Bindings
         return this.entrySet;
     }
 
+    /**
+     * {@link Map}接口的读取, 计算失败时抛出{@code RuntimeException}
+     */
+    private Object getValue(final int slot) {
+        try {
+            return get(slot);
+        } catch (final VariableException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void clearSlot(final int slot) {
+        slots.values[slot] = null;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int slot = layout.find((String) key);
+        return isSet(slot) ? getValue(slot) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && isSet(layout.find((String) key));
+    }
+
+    /**
+     * @return 原来保存在槽位中的{@link Variable}或值, 原来是不装箱的数字时返回{@code null}
+     */
     @Override
     public Object put(final String key, final Object value) {
-        Object result;
+        final int slot = slot(key);
+        final Object previous = stored(slot);
+        put(slot, value);
+        return previous;
+    }
 
-        if (value instanceof Variable) {
-            result = this.rawMap.put(key, (Variable) value);
-        } else {
-            result = this.rawMap.put(key, new Constant(value));
+    @Override
+    public Object remove(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
         }
-
-        return result;
+        final int slot = layout.find((String) key);
+        if (!isSet(slot)) {
+            return null;
+        }
+        final Object previous = stored(slot);
+        clearSlot(slot);
+        return previous;
     }
 }
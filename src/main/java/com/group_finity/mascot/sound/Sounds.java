@@ -50,11 +50,11 @@ public class Sounds {
     }
 
     /**
-     * 从配置setting中获取Sounds属性值, 即是否静音
+     * 从设置快照中获取Sounds设置项, 即是否静音
      * @return boolean
      */
     public static boolean isMuted() {
-        return !Boolean.parseBoolean(Main.getInstance().getProperties().getProperty("Sounds", "true"));
+        return !Main.getInstance().getSettings().isSounds();
     }
 
     public static void setMuted(boolean mutedFlag) {
@@ -26,6 +26,22 @@
 package hqx;
 
 public class Hqx_4x extends Hqx {
+    /**
+     * Maps every neighbour pattern to the {@code rulesN} method holding its interpolation rule. The rules are split
+     * over several methods so that each stays below HotSpot's huge method limit (8000 bytes of bytecode) and gets
+     * JIT-compiled; a single switch over all 256 patterns would only ever run in the interpreter.
+     */
+    private static final byte[] RULES = {
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 4, 0, 0, 0, 0, 0, 0, 0, 3, 0, 1, 1, 1, 1, 2, 1, 1,
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 3, 0, 0, 6, 7, 0, 0, 0, 0, 0, 0, 0, 3, 1, 2, 2, 5, 2, 4, 4, 8,
+            0, 0, 0, 1, 0, 0, 1, 2, 0, 1, 1, 2, 0, 1, 3, 5, 0, 0, 1, 2, 0, 0, 1, 5, 1, 3, 3, 6, 2, 6, 5, 8,
+            0, 0, 1, 2, 0, 0, 2, 4, 0, 3, 1, 1, 0, 3, 4, 8, 0, 0, 3, 6, 6, 6, 4, 7, 2, 5, 5, 8, 4, 7, 7, 9,
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 4, 0, 0, 0, 6, 0, 0, 3, 7, 1, 2, 3, 4, 2, 4, 5, 8,
+            0, 0, 0, 0, 0, 0, 0, 6, 0, 0, 1, 3, 0, 6, 6, 7, 0, 0, 0, 6, 0, 6, 3, 7, 2, 4, 6, 7, 4, 6, 7, 9,
+            0, 0, 1, 2, 0, 0, 2, 4, 0, 6, 2, 4, 0, 6, 6, 7, 0, 0, 1, 4, 3, 3, 1, 8, 1, 4, 5, 7, 5, 7, 8, 9,
+            0, 0, 2, 4, 0, 6, 4, 7, 3, 7, 5, 8, 3, 7, 7, 9, 3, 3, 5, 7, 8, 8, 8, 9, 1, 8, 8, 9, 8, 9, 9, 9
+    };
+
     /**
      * This is the extended Java port of the hq4x algorithm.
      * <b>The destination image must be exactly 4 times as large in both dimensions as the source image</b>
@@ -590,6 +606,7 @@ public class Hqx_4x extends Hqx {
 
         int prevline, nextline;
         final int[] w = new int[9];
+        final int[] patterns = Patterns.compute(sp, Xres, Yres, trY, trU, trV, trA, wrapX, wrapY);
 
         for (int j = 0; j < Yres; j++) {
             prevline = j > 0
@@ -639,3900 +656,39 @@ public class Hqx_4x extends Hqx {
                     }
                 }
 
-                int pattern = 0;
-                int flag = 1;
-
-                for (int k = 0; k < 9; k++) {
-                    if (k == 4) {
-                        continue;
-                    }
-
-                    if (w[k] != w[4]) {
-                        if (diff(w[4], w[k], trY, trU, trV, trA)) {
-                            pattern |= flag;
-                        }
-                    }
-                    flag <<= 1;
-                }
+                final int pattern = patterns[spIdx];
 
-                switch (pattern) {
+                switch (RULES[pattern]) {
                     case 0:
+                        rules0(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
+                        break;
                     case 1:
-                    case 4:
-                    case 32:
-                    case 128:
-                    case 5:
-                    case 132:
-                    case 160:
-                    case 33:
-                    case 129:
-                    case 36:
-                    case 133:
-                    case 164:
-                    case 161:
-                    case 37:
-                    case 165: {
-                        case0(dp, dpIdx, dpL, w);
+                        rules1(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
                     case 2:
-                    case 34:
-                    case 130:
-                    case 162: {
-                        case2(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 16:
-                    case 17:
-                    case 48:
-                    case 49: {
-                        case16(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 64:
-                    case 65:
-                    case 68:
-                    case 69: {
-                        case64(dp, dpIdx, dpL, w);
+                        rules2(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 8:
-                    case 12:
-                    case 136:
-                    case 140: {
-                        case8(dp, dpIdx, dpL, w);
-                        break;
-                    }
                     case 3:
-                    case 35:
-                    case 131:
-                    case 163: {
-                        case3(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 6:
-                    case 38:
-                    case 134:
-                    case 166: {
-                        case6(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 20:
-                    case 21:
-                    case 52:
-                    case 53: {
-                        case20(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 144:
-                    case 145:
-                    case 176:
-                    case 177: {
-                        case144(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 192:
-                    case 193:
-                    case 196:
-                    case 197: {
-                        case192(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 96:
-                    case 97:
-                    case 100:
-                    case 101: {
-                        case96(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 40:
-                    case 44:
-                    case 168:
-                    case 172: {
-                        case40(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 9:
-                    case 13:
-                    case 137:
-                    case 141: {
-                        case9(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 18:
-                    case 50: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 80:
-                    case 81: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                        rules3(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 72:
-                    case 76: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 10:
-                    case 138: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                    case 4:
+                        rules4(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 66: {
-                        case66(dp, dpIdx, dpL, w);
+                    case 5:
+                        rules5(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 24: {
-                        case24(dp, dpIdx, dpL, w);
+                    case 6:
+                        rules6(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
                     case 7:
-                    case 39:
-                    case 135: {
-                        case7(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 148:
-                    case 149:
-                    case 180: {
-                        case148(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 224:
-                    case 228:
-                    case 225: {
-                        case224(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 41:
-                    case 169:
-                    case 45: {
-                        case41(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 22:
-                    case 54: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 208:
-                    case 209: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 104:
-                    case 108: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 11:
-                    case 139: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 19:
-                    case 51: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 146:
-                    case 178: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 84:
-                    case 85: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 112:
-                    case 113: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 200:
-                    case 204: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 73:
-                    case 77: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 42:
-                    case 170: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 14:
-                    case 142: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 67: {
-                        case67(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 70: {
-                        case70(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 28: {
-                        case28(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 152: {
-                        case152(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 194: {
-                        case194(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 98: {
-                        case98(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 56: {
-                        case56(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 25: {
-                        case25(dp, dpIdx, dpL, w);
-                        break;
-                    }
-                    case 26:
-                    case 31: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 82:
-                    case 214: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 88:
-                    case 248: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 74:
-                    case 107: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 27: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 86: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 216: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 106: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 30: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 210: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 120: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 75: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 29: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 198: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 184: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 99: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 57: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 71: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 156: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 226: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 60: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 195: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 102: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 153: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 58: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 83: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 92: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 202: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 78: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 154: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 114: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        break;
-                    }
-                    case 89: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 90: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 55:
-                    case 23: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 182:
-                    case 150: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 213:
-                    case 212: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 241:
-                    case 240: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 236:
-                    case 232: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 109:
-                    case 105: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 171:
-                    case 43: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 143:
-                    case 15: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 124: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 203: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 62: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 211: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 118: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 217: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 110: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 155: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 188: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 185: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 61: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 157: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 103: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 227: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 230: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 199: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 220: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 158: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 234: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 242: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        break;
-                    }
-                    case 59: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 121: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 87: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 79: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 122: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 94: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL + 2] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 218: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 91: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 229: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 167: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 173: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 181: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 186: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 115: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        break;
-                    }
-                    case 93: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 206: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 205:
-                    case 201: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                        rules7(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 174:
-                    case 46: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                    case 8:
+                        rules8(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 179:
-                    case 147: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                    case 9:
+                        rules9(pattern, dp, dpIdx, dpL, w, trY, trU, trV, trA);
                         break;
-                    }
-                    case 117:
-                    case 116: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        break;
-                    }
-                    case 189: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 231: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 126: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 219: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 125: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 221: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 207: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
-                            dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 238: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 190: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 187: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = w[4];
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
-                            dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 243: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 119: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
-                            dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 237:
-                    case 233: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 175:
-                    case 47: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        break;
-                    }
-                    case 183:
-                    case 151: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 245:
-                    case 244: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 250: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 123: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 95: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 222: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 252: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 249: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        break;
-                    }
-                    case 235: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 111: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 63: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 159: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 215: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 246: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 254: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 253: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 251: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        break;
-                    }
-                    case 239: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
-                        break;
-                    }
-                    case 127: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 2] = w[4];
-                            dp[dpIdx + 3] = w[4];
-                            dp[dpIdx + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
-                            dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                        }
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
-                            dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
-                        }
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
-                        break;
-                    }
-                    case 191: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
-                        dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
-                        break;
-                    }
-                    case 223: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
-                            dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
-                        }
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + 3] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
-                        break;
-                    }
-                    case 247: {
-                        dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
-                    case 255: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        } else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
-                        }
-                        dp[dpIdx + 1] = w[4];
-                        dp[dpIdx + 2] = w[4];
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 3] = w[4];
-                        } else {
-                            dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = w[4];
-                        dp[dpIdx + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + 3] = w[4];
-                        dp[dpIdx + dpL + dpL] = w[4];
-                        dp[dpIdx + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + 2] = w[4];
-                        dp[dpIdx + dpL + dpL + 3] = w[4];
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
-                        dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
-                        } else {
-                            dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
-                        }
-                        break;
-                    }
                 }
                 spIdx++;
                 dpIdx += 4;
@@ -4540,4 +696,3941 @@ public class Hqx_4x extends Hqx {
             dpIdx += dpL * 3;
         }
     }
+
+    private static void rules0(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 0:
+            case 1:
+            case 4:
+            case 32:
+            case 128:
+            case 5:
+            case 132:
+            case 160:
+            case 33:
+            case 129:
+            case 36:
+            case 133:
+            case 164:
+            case 161:
+            case 37:
+            case 165: {
+                case0(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 2:
+            case 34:
+            case 130:
+            case 162: {
+                case2(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 16:
+            case 17:
+            case 48:
+            case 49: {
+                case16(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 64:
+            case 65:
+            case 68:
+            case 69: {
+                case64(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 8:
+            case 12:
+            case 136:
+            case 140: {
+                case8(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 3:
+            case 35:
+            case 131:
+            case 163: {
+                case3(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 6:
+            case 38:
+            case 134:
+            case 166: {
+                case6(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 20:
+            case 21:
+            case 52:
+            case 53: {
+                case20(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 144:
+            case 145:
+            case 176:
+            case 177: {
+                case144(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 192:
+            case 193:
+            case 196:
+            case 197: {
+                case192(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 96:
+            case 97:
+            case 100:
+            case 101: {
+                case96(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 40:
+            case 44:
+            case 168:
+            case 172: {
+                case40(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 9:
+            case 13:
+            case 137:
+            case 141: {
+                case9(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 18:
+            case 50: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 80:
+            case 81: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 72:
+            case 76: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 10:
+            case 138: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 66: {
+                case66(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 24: {
+                case24(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 7:
+            case 39:
+            case 135: {
+                case7(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 148:
+            case 149:
+            case 180: {
+                case148(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 224:
+            case 228:
+            case 225: {
+                case224(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 41:
+            case 169:
+            case 45: {
+                case41(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 22:
+            case 54: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 208:
+            case 209: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 104:
+            case 108: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 11:
+            case 139: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 19:
+            case 51: {
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 146:
+            case 178: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 84:
+            case 85: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 112:
+            case 113: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 200:
+            case 204: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+        }
+    }
+
+    private static void rules1(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 73:
+            case 77: {
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
+                }
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 42:
+            case 170: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 14:
+            case 142: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                }
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 67: {
+                case67(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 70: {
+                case70(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 28: {
+                case28(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 152: {
+                case152(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 194: {
+                case194(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 98: {
+                case98(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 56: {
+                case56(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 25: {
+                case25(dp, dpIdx, dpL, w);
+                break;
+            }
+            case 26:
+            case 31: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 82:
+            case 214: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 88:
+            case 248: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 74:
+            case 107: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 27: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 86: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 216: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 106: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 30: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 210: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+        }
+    }
+
+    private static void rules2(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 120: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 75: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 29: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 198: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 184: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 99: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 57: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 71: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 156: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 226: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 60: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 195: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 102: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 153: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 58: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 83: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 92: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 202: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+        }
+    }
+
+    private static void rules3(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 78: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 154: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 114: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                break;
+            }
+            case 89: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 90: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 55:
+            case 23: {
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 182:
+            case 150: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 213:
+            case 212: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 241:
+            case 240: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 236:
+            case 232: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 109:
+            case 105: {
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
+                }
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 171:
+            case 43: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                    dp[dpIdx + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+        }
+    }
+
+    private static void rules4(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 143:
+            case 15: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                    dp[dpIdx + dpL] = w[4];
+                    dp[dpIdx + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                }
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 124: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 203: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 62: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 211: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 118: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 217: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 110: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 155: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 188: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 185: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 61: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 157: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 103: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 227: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 230: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 199: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+        }
+    }
+
+    private static void rules5(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 220: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 158: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 234: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 242: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                break;
+            }
+            case 59: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 121: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 87: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 79: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 122: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 94: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL + 2] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 218: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+        }
+    }
+
+    private static void rules6(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 91: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 229: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 167: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 173: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 181: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 186: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 115: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                break;
+            }
+            case 93: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 206: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 205:
+            case 201: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 174:
+            case 46: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL + 1] = w[4];
+                }
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 179:
+            case 147: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 117:
+            case 116: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                break;
+            }
+            case 189: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+        }
+    }
+
+    private static void rules7(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 231: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 126: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 219: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 125: {
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix2To1To1(w[7], w[4], w[3]);
+                }
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 221: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix2To1To1(w[7], w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 207: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                    dp[dpIdx + dpL] = w[4];
+                    dp[dpIdx + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix5To3(w[1], w[3]);
+                    dp[dpIdx + 2] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                }
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 238: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix2To1To1(w[3], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[7]);
+                }
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 190: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx + 2] = Interpolation.Mix2To1To1(w[1], w[4], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[5], w[1]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 187: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                    dp[dpIdx + dpL + 1] = w[4];
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[1], w[4], w[3]);
+                    dp[dpIdx + dpL] = Interpolation.Mix5To3(w[3], w[1]);
+                    dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                    dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 243: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[7], w[5]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 119: {
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                    dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+                    dp[dpIdx + 1] = Interpolation.Mix3To1(w[1], w[4]);
+                    dp[dpIdx + 2] = Interpolation.Mix5To3(w[1], w[5]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                    dp[dpIdx + dpL + 3] = Interpolation.Mix2To1To1(w[5], w[4], w[1]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 237:
+            case 233: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 175:
+            case 47: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                break;
+            }
+            case 183:
+            case 151: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+        }
+    }
+
+    private static void rules8(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 245:
+            case 244: {
+                dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 250: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                break;
+            }
+            case 123: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 95: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 222: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 252: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[0]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 249: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix4To2To1(w[4], w[1], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                break;
+            }
+            case 235: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[2]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 111: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix4To2To1(w[4], w[5], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 63: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix4To2To1(w[4], w[7], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 159: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 215: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 246: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+        }
+    }
+
+    private static void rules9(final int pattern, final int[] dp, final int dpIdx, final int dpL, final int[] w,
+                               final int trY, final int trU, final int trV, final int trA) {
+        switch (pattern) {
+            case 254: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[0]);
+                dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[0]);
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[0]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[0]);
+                dp[dpIdx + dpL + 2] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 253: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 1] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 2] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[1]);
+                dp[dpIdx + dpL] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix7To1(w[4], w[1]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 251: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[2]);
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[2]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix3To1(w[4], w[2]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                break;
+            }
+            case 239: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                dp[dpIdx + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[5]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[5]);
+                break;
+            }
+            case 127: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 2] = w[4];
+                    dp[dpIdx + 3] = w[4];
+                    dp[dpIdx + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + 2] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + 3] = Interpolation.MixEven(w[1], w[5]);
+                    dp[dpIdx + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                }
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL] = Interpolation.MixEven(w[3], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.MixEven(w[7], w[3]);
+                    dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.MixEven(w[7], w[4]);
+                }
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix3To1(w[4], w[8]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[8]);
+                break;
+            }
+            case 191: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 2] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + 3] = Interpolation.Mix7To1(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.Mix5To3(w[4], w[7]);
+                dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix5To3(w[4], w[7]);
+                break;
+            }
+            case 223: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                    dp[dpIdx + 1] = w[4];
+                    dp[dpIdx + dpL] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.MixEven(w[1], w[3]);
+                    dp[dpIdx + 1] = Interpolation.MixEven(w[1], w[4]);
+                    dp[dpIdx + dpL] = Interpolation.MixEven(w[3], w[4]);
+                }
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + 3] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + 3] = Interpolation.MixEven(w[5], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 2] = Interpolation.MixEven(w[7], w[4]);
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.MixEven(w[7], w[5]);
+                }
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[6]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix3To1(w[4], w[6]);
+                break;
+            }
+            case 247: {
+                dp[dpIdx] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix5To3(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 1] = Interpolation.Mix7To1(w[4], w[3]);
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+            case 255: {
+                if (diff(w[3], w[1], trY, trU, trV, trA)) {
+                    dp[dpIdx] = w[4];
+                } else {
+                    dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[1], w[3]);
+                }
+                dp[dpIdx + 1] = w[4];
+                dp[dpIdx + 2] = w[4];
+                if (diff(w[1], w[5], trY, trU, trV, trA)) {
+                    dp[dpIdx + 3] = w[4];
+                } else {
+                    dp[dpIdx + 3] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+                }
+                dp[dpIdx + dpL] = w[4];
+                dp[dpIdx + dpL + 1] = w[4];
+                dp[dpIdx + dpL + 2] = w[4];
+                dp[dpIdx + dpL + 3] = w[4];
+                dp[dpIdx + dpL + dpL] = w[4];
+                dp[dpIdx + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + 2] = w[4];
+                dp[dpIdx + dpL + dpL + 3] = w[4];
+                if (diff(w[7], w[3], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                }
+                dp[dpIdx + dpL + dpL + dpL + 1] = w[4];
+                dp[dpIdx + dpL + dpL + dpL + 2] = w[4];
+                if (diff(w[5], w[7], trY, trU, trV, trA)) {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = w[4];
+                } else {
+                    dp[dpIdx + dpL + dpL + dpL + 3] = Interpolation.Mix2To1To1(w[4], w[7], w[5]);
+                }
+                break;
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package hqx;
+
+/**
+ * Computes the 8-bit neighbour difference pattern of every source pixel in one pass, ahead of the hqx rule switch.
+ * <p>
+ * Bit {@code n} of a pattern is set when the n-th neighbour (w[0..8] without w[4], in row-major order) differs from
+ * the centre pixel according to {@link Hqx#diff(int, int, int, int, int, int)}.
+ */
+final class Patterns {
+    private static final int Ymask = 0x00FF0000;
+    private static final int Umask = 0x0000FF00;
+    private static final int Vmask = 0x000000FF;
+
+    private Patterns() {
+    }
+
+    /**
+     * Computes the difference pattern for every pixel of the source image.
+     * The thresholds {@code trY} and {@code trU} must already be shifted into their channel positions.
+     *
+     * @return an array of {@code Xres * Yres} patterns in the same order as {@code sp}
+     */
+    static int[] compute(final int[] sp, final int Xres, final int Yres,
+                         final int trY, final int trU, final int trV, final int trA,
+                         final boolean wrapX, final boolean wrapY) {
+        final int[] yuvTable = RgbYuv.getTable();
+        final int[] patterns = new int[Xres * Yres];
+
+        for (int j = 0; j < Yres; j++) {
+            final int prevline = j > 0
+                    ? -Xres
+                    : wrapY
+                    ? Xres * (Yres - 1)
+                    : 0;
+            final int nextline = j < Yres - 1
+                    ? Xres
+                    : wrapY
+                    ? -(Xres * (Yres - 1))
+                    : 0;
+            final int row = j * Xres;
+
+            computeRow(sp, patterns, yuvTable, row, Xres, prevline, nextline, trY, trU, trV, trA, wrapX);
+        }
+
+        return patterns;
+    }
+
+    private static void computeRow(final int[] sp, final int[] patterns, final int[] yuvTable,
+                                   final int row, final int Xres, final int prevline, final int nextline,
+                                   final int trY, final int trU, final int trV, final int trA,
+                                   final boolean wrapX) {
+        final int[] w = new int[9];
+        for (int i = 0; i < Xres; i++) {
+            final int spIdx = row + i;
+            w[1] = sp[spIdx + prevline];
+            w[4] = sp[spIdx];
+            w[7] = sp[spIdx + nextline];
+
+            if (i > 0) {
+                w[0] = sp[spIdx + prevline - 1];
+                w[3] = sp[spIdx - 1];
+                w[6] = sp[spIdx + nextline - 1];
+            } else if (wrapX) {
+                w[0] = sp[spIdx + prevline + Xres - 1];
+                w[3] = sp[spIdx + Xres - 1];
+                w[6] = sp[spIdx + nextline + Xres - 1];
+            } else {
+                w[0] = w[1];
+                w[3] = w[4];
+                w[6] = w[7];
+            }
+
+            if (i < Xres - 1) {
+                w[2] = sp[spIdx + prevline + 1];
+                w[5] = sp[spIdx + 1];
+                w[8] = sp[spIdx + nextline + 1];
+            } else if (wrapX) {
+                w[2] = sp[spIdx + prevline - Xres + 1];
+                w[5] = sp[spIdx - Xres + 1];
+                w[8] = sp[spIdx + nextline - Xres + 1];
+            } else {
+                w[2] = w[1];
+                w[5] = w[4];
+                w[8] = w[7];
+            }
+
+            final int yuv4 = yuvTable[w[4] & 0x00FFFFFF];
+            int pattern = 0;
+            int flag = 1;
+            for (int k = 0; k < 9; k++) {
+                if (k == 4) {
+                    continue;
+                }
+                final int c = w[k];
+                if (c != w[4]) {
+                    final int yuv = yuvTable[c & 0x00FFFFFF];
+                    if (Math.abs((yuv4 & Ymask) - (yuv & Ymask)) > trY ||
+                            Math.abs((yuv4 & Umask) - (yuv & Umask)) > trU ||
+                            Math.abs((yuv4 & Vmask) - (yuv & Vmask)) > trV ||
+                            Math.abs((w[4] >> 24) - (c >> 24)) > trA) {
+                        pattern |= flag;
+                    }
+                }
+                flag <<= 1;
+            }
+            patterns[spIdx] = pattern;
+        }
+    }
+}
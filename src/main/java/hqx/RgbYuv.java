@@ -27,7 +27,7 @@ package hqx;
 
 public final class RgbYuv {
     private static final int rgbMask = 0x00FFFFFF;
-    private static int[] RGBtoYUV = new int[0x1000000];
+    private static volatile int[] RGBtoYUV;
 
     /**
      * Returns the 24bit YUV equivalent of the provided 24bit RGB color. <b>Any alpha component is dropped.</b>
@@ -36,14 +36,34 @@ public final class RgbYuv {
      * @return the corresponding 24bit YUV color
      */
     static int getYuv(final int rgb) {
-        return RGBtoYUV[rgb & rgbMask];
+        return getTable()[rgb & rgbMask];
+    }
+
+    /**
+     * Returns the lookup table, calculating it first if {@link #hqxInit()} has not been called yet.
+     *
+     * @return the RGB-to-YUV lookup table
+     */
+    static int[] getTable() {
+        int[] table = RGBtoYUV;
+        if (table == null) {
+            synchronized (RgbYuv.class) {
+                table = RGBtoYUV;
+                if (table == null) {
+                    hqxInit();
+                    table = RGBtoYUV;
+                }
+            }
+        }
+        return table;
     }
 
     /**
      * Calculates the lookup table. <b>MUST</b> be called (only once) before doing anything else.
      */
-    public static void hqxInit() {
+    public static synchronized void hqxInit() {
         /* Initialize RGB-to-YUV lookup table */
+        final int[] table = new int[0x1000000];
         int r, g, b, y, u, v;
         for (int c = 0x1000000 - 1; c >= 0; c--) {
             r = (c & 0xFF0000) >> 16;
@@ -52,8 +72,9 @@ public final class RgbYuv {
             y = (int) (+0.299d * r + 0.587d * g + 0.114d * b);
             u = (int) (-0.169d * r - 0.331d * g + 0.500d * b) + 128;
             v = (int) (+0.500d * r - 0.419d * g - 0.081d * b) + 128;
-            RGBtoYUV[c] = y << 16 | u << 8 | v;
+            table[c] = y << 16 | u << 8 | v;
         }
+        RGBtoYUV = table;
     }
 
     /// <summary>
@@ -64,7 +85,7 @@ public final class RgbYuv {
     /**
      * Releases the reference to the lookup table. <b>The table has to be calculated again for the next lookup.</b>
      */
-    public static void hqxDeinit() {
+    public static synchronized void hqxDeinit() {
         RGBtoYUV = null;
     }
 }
@@ -8,6 +8,8 @@ module com.group_finity.mascot {
     requires org.openjdk.nashorn;
     requires AbsoluteLayout.RELEASE280;
 
+    uses com.group_finity.mascot.action.ActionFactory;
+
     exports com.group_finity.mascot;
     exports com.group_finity.mascot.action;
     exports com.group_finity.mascot.animation;
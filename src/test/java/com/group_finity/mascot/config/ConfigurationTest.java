@@ -0,0 +1,63 @@
+package com.group_finity.mascot.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.PropertyResourceBundle;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.group_finity.mascot.Main;
+import com.group_finity.mascot.exception.ScriptTimeoutException;
+import com.group_finity.mascot.exception.VariableException;
+import com.group_finity.mascot.script.Expression;
+import com.group_finity.mascot.script.ScriptWatchdog;
+import com.group_finity.mascot.script.VariableMap;
+
+public class ConfigurationTest {
+    /**
+     * 错误信息来自{@link Main}的语言包, 测试中没有启动程序, 直接读取默认的语言文件
+     */
+    @BeforeAll
+    public static void loadLanguageBundle() throws IOException, ReflectiveOperationException {
+        final Field field = Main.class.getDeclaredField("languageBundle");
+        field.setAccessible(true);
+        if (field.get(Main.getInstance()) == null) {
+            try (InputStream input = Files.newInputStream(Path.of("conf", "language.properties"))) {
+                field.set(Main.getInstance(), new PropertyResourceBundle(input));
+            }
+        }
+    }
+
+    private static VariableMap context(final double limit) {
+        final VariableMap context = new VariableMap();
+        context.put("Limit", limit);
+        return context;
+    }
+
+    @Test
+    public void aTimeoutDoesNotDisableTheScriptInOtherConfigurations() throws VariableException {
+        // 两个图片集的行为有同样的条件, 解析后是同一个表达式. 只在一个图片集的数据下运行很久
+        final String text = "${(function() { var n = 0; while (n < Limit) { n++; } return true; })()}";
+        final Configuration slow = new Configuration();
+        final Configuration fast = new Configuration();
+        final int[] slowConditions = {slow.getConditions().register(Expression.parse(text), "Walk")};
+        final int[] fastConditions = {fast.getConditions().register(Expression.parse(text), "Walk")};
+
+        final long budget = ScriptWatchdog.getBudget();
+        ScriptWatchdog.setBudget(20);
+        try {
+            assertThrows(ScriptTimeoutException.class, () -> slow.getConditions().select(context(1e12)).test(slowConditions));
+            assertTrue(fast.getConditions().select(context(10)).test(fastConditions));
+            assertTrue(slow.getConditions().select(context(10)).test(slowConditions));
+        } finally {
+            ScriptWatchdog.setBudget(budget);
+        }
+    }
+}
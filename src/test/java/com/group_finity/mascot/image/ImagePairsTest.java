@@ -0,0 +1,66 @@
+package com.group_finity.mascot.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ImagePairsTest {
+    @AfterEach
+    public void clear() {
+        ImagePairs.clear();
+    }
+
+    private static long loadedBytes() throws ReflectiveOperationException {
+        final Field field = ImagePairs.class.getDeclaredField("loadedBytes");
+        field.setAccessible(true);
+        return ((AtomicLong) field.get(null)).get();
+    }
+
+    private static BufferedImage image(final int argb) {
+        final BufferedImage image = new BufferedImage(64, 32, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    private static ImagePair pair(final BufferedImage left, final BufferedImage right) {
+        return new ImagePair(new MascotImage(left, new Point()), new MascotImage(right, new Point()));
+    }
+
+    private static long maskBytes(final ImagePair imagePair) {
+        return imagePair.getImage(false).getMaskBytes() + imagePair.getImage(true).getMaskBytes();
+    }
+
+    @Test
+    public void sharedImagesAreCountedOnce() throws ReflectiveOperationException {
+        final BufferedImage left = ImagePairs.intern(image(0xFF102030));
+        final BufferedImage right = ImagePairs.intern(image(0xFF405060));
+        assertSame(left, ImagePairs.intern(image(0xFF102030)));
+
+        final ImagePair first = pair(left, right);
+        final ImagePair second = pair(ImagePairs.intern(image(0xFF102030)), ImagePairs.intern(image(0xFF405060)));
+        final long images = CompactImages.bytes(left) + CompactImages.bytes(right);
+
+        ImagePairs.put("shared/1.png", first);
+        assertEquals(images + maskBytes(first), loadedBytes());
+        ImagePairs.put("shared/2.png", second);
+        assertEquals(images + maskBytes(first) + maskBytes(second), loadedBytes());
+
+        // 另一个图片集中的图片对还在用这两张图片, 移除之后只减去遮罩
+        ImagePairs.put("other/1.png", pair(left, right));
+        ImagePairs.removeAll("shared");
+        assertEquals(images + maskBytes(pair(left, right)), loadedBytes());
+        ImagePairs.removeAll("other");
+        assertEquals(0, loadedBytes());
+    }
+}
@@ -0,0 +1,373 @@
+package com.group_finity.mascot.script;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.NodeList;
+
+import com.group_finity.mascot.Main;
+import com.group_finity.mascot.environment.Area;
+import com.group_finity.mascot.environment.Border;
+import com.group_finity.mascot.environment.Location;
+import com.group_finity.mascot.exception.ScriptTimeoutException;
+import com.group_finity.mascot.exception.VariableException;
+
+public class ExpressionTest {
+    /**
+     * 脚本可以调用的有副作用的方法
+     */
+    public static final class Counter {
+        private int count;
+
+        public void touch() {
+            count++;
+        }
+
+        public Object next() {
+            return ++count;
+        }
+    }
+
+    /**
+     * 自带配置中的脚本用到的{@code mascot}的属性. 真正的{@link com.group_finity.mascot.Mascot}需要窗口, 测试中无法创建
+     */
+    public static final class TestMascot {
+        private final TestEnvironment environment = new TestEnvironment();
+
+        public Point getAnchor() {
+            return new Point(640, 900);
+        }
+
+        public boolean isLookRight() {
+            return true;
+        }
+
+        public int getTotalCount() {
+            return 3;
+        }
+
+        public TestEnvironment getEnvironment() {
+            return environment;
+        }
+    }
+
+    public static final class TestEnvironment {
+        private final Area workArea = area(0, 0, 1920, 1040);
+
+        private final Area activeIE = area(400, 300, 800, 600);
+
+        private final Location cursor = new Location();
+
+        public TestEnvironment() {
+            cursor.setX(700);
+            cursor.setY(500);
+        }
+
+        private static Area area(final int x, final int y, final int width, final int height) {
+            final Area area = new Area();
+            area.set(new Rectangle(x, y, width, height));
+            return area;
+        }
+
+        public Area getWorkArea() {
+            return workArea;
+        }
+
+        public Area getActiveIE() {
+            return activeIE;
+        }
+
+        public Area getScreen() {
+            return workArea;
+        }
+
+        public Location getCursor() {
+            return cursor;
+        }
+
+        public Border getFloor() {
+            return workArea.getBottomBorder();
+        }
+
+        public Border getCeiling() {
+            return workArea.getTopBorder();
+        }
+
+        public Border getWall() {
+            return workArea.getLeftBorder();
+        }
+    }
+
+    private static final String COUNTER = "${var counter = (typeof counter == 'undefined' ? 0 : counter) + 1; counter}";
+
+    /**
+     * 错误信息来自{@link Main}的语言包, 测试中没有启动程序, 直接读取默认的语言文件
+     */
+    @BeforeAll
+    public static void loadLanguageBundle() throws IOException, ReflectiveOperationException {
+        final Field field = Main.class.getDeclaredField("languageBundle");
+        field.setAccessible(true);
+        if (field.get(Main.getInstance()) == null) {
+            try (InputStream input = Files.newInputStream(Path.of("conf", "language.properties"))) {
+                field.set(Main.getInstance(), new PropertyResourceBundle(input));
+            }
+        }
+    }
+
+    private static double evaluate(final String text, final VariableMap variables) throws VariableException {
+        return ((Number) Expression.parse(text).evaluate(variables)).doubleValue();
+    }
+
+    @Test
+    public void topLevelVariablesStayInTheirVariableMap() throws VariableException {
+        final VariableMap first = new VariableMap();
+        final VariableMap second = new VariableMap();
+
+        assertEquals(1, evaluate(COUNTER, first));
+        assertEquals(2, evaluate(COUNTER, first));
+        assertEquals(1, evaluate(COUNTER, second));
+    }
+
+    @Test
+    public void implicitGlobalsDoNotShadowOtherVariableMaps() throws VariableException {
+        final VariableMap leaking = new VariableMap();
+        final VariableMap reading = new VariableMap();
+        reading.put("TargetX", 7.0);
+
+        assertEquals(5, evaluate("${TargetX = 5; TargetX}", leaking));
+        assertEquals(7, evaluate("${(function() { return TargetX; })()}", reading));
+    }
+
+    @Test
+    public void variableMapSeesTheSameGlobalsOnEveryThread() throws Exception {
+        final VariableMap variables = new VariableMap();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(1, evaluate(COUNTER, variables));
+            assertEquals(2, executor.submit(() -> evaluate(COUNTER, variables)).get());
+            assertEquals(3, evaluate(COUNTER, variables));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentEvaluationsUseTheirOwnVariables() throws Exception {
+        final int threads = 4;
+        final int iterations = 500;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * 1000;
+                results.add(executor.submit(() -> {
+                    final VariableMap[] maps = {new VariableMap(), new VariableMap(), new VariableMap()};
+                    for (int i = 0; i < iterations; i++) {
+                        final VariableMap variables = maps[i % maps.length];
+                        final double targetX = offset + i;
+                        variables.put("TargetX", targetX);
+                        assertEquals(targetX * 2, evaluate("${var seen = TargetX; (function() { return seen * 2; })()}", variables));
+                        assertEquals(targetX, evaluate("${(function() { return TargetX; })()}", variables));
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void guardedScriptsRunWithoutATimeBudget() throws VariableException {
+        final long budget = ScriptWatchdog.getBudget();
+        ScriptWatchdog.setBudget(0);
+        try {
+            assertEquals(3, evaluate("${(function() { var n = 0; while (n < 3) { n++; } return n; })()}", new VariableMap()));
+        } finally {
+            ScriptWatchdog.setBudget(budget);
+        }
+    }
+
+    /**
+     * @return 配置文件中所有属性值形式的脚本, 按出现的顺序排列
+     */
+    private static Set<String> readScripts(final Path file) throws Exception {
+        final Set<String> scripts = new LinkedHashSet<>();
+        final NodeList elements = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile()).getElementsByTagName("*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            final NamedNodeMap attributes = ((Element) elements.item(i)).getAttributes();
+            for (int j = 0; j < attributes.getLength(); j++) {
+                final String value = attributes.item(j).getNodeValue();
+                if ((value.startsWith("${") || value.startsWith("#{")) && value.endsWith("}")) {
+                    scripts.add(value);
+                }
+            }
+        }
+        return scripts;
+    }
+
+    private static VariableMap mascotVariables(final TestMascot mascot) {
+        final VariableMap variables = new VariableMap();
+        variables.put("mascot", mascot);
+        return variables;
+    }
+
+    @Test
+    public void bundledScriptsGiveTheSameResultsOnManyThreads() throws Exception {
+        final TestMascot mascot = new TestMascot();
+
+        // 单线程计算的参考结果. 随机的脚本和需要动作参数的脚本无法比较, 不参加测试.
+        // 每个脚本再包一层函数, 让同样的计算也经过 Nashorn
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        for (final String file : new String[]{"actions.xml", "behaviors.xml"}) {
+            for (final String text : readScripts(Path.of("conf", file))) {
+                if (text.contains("random")) {
+                    continue;
+                }
+                final String body = text.substring(2, text.length() - 1);
+                for (final String script : new String[]{text, "${(function() { return " + body + "; })()}"}) {
+                    try {
+                        expected.put(script, Expression.parse(script).evaluate(mascotVariables(mascot)));
+                    } catch (final VariableException e) {
+                        // 用到了动作的参数
+                    }
+                }
+            }
+        }
+        assertTrue(expected.size() > 40, "only " + expected.size() + " scripts could be evaluated");
+
+        final int threads = 4;
+        final int rounds = 20;
+        final long budget = ScriptWatchdog.getBudget();
+        ScriptWatchdog.setBudget(0);
+        // 所有线程共用的变量表, 计算的同时有一个线程不停地写入和添加变量
+        final VariableMap shared = mascotVariables(mascot);
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            final Future<?> writer = executor.submit(() -> {
+                for (int i = 0; !done.get(); i++) {
+                    shared.put("Noise" + i % 500, (double) i);
+                    shared.put("Label" + i % 50, "label " + i);
+                }
+                return null;
+            });
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    final VariableMap[] maps = {mascotVariables(mascot), mascotVariables(mascot), shared};
+                    for (int round = 0; round < rounds; round++) {
+                        for (final Map.Entry<String, Object> entry : expected.entrySet()) {
+                            for (final VariableMap variables : maps) {
+                                assertSameValue(entry.getKey(), entry.getValue(), Expression.parse(entry.getKey()).evaluate(variables));
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+            }
+            done.set(true);
+            writer.get();
+        } finally {
+            done.set(true);
+            executor.shutdown();
+            ScriptWatchdog.setBudget(budget);
+        }
+    }
+
+    /**
+     * 快速求值器和 Nashorn 的数字可能装箱成不同的类型, 按数值比较
+     */
+    private static void assertSameValue(final String script, final Object expected, final Object actual) {
+        if (expected instanceof Number && actual instanceof Number) {
+            assertEquals(((Number) expected).doubleValue(), ((Number) actual).doubleValue(), script);
+        } else {
+            assertEquals(expected, actual, script);
+        }
+    }
+
+    @Test
+    public void onlyTheOutermostEvaluationTimesOut() throws VariableException {
+        final String inner = "${(function() { while (Spin) {} return 1; })()}";
+        final VariableMap variables = new VariableMap();
+        variables.put("Spin", Boolean.TRUE);
+        variables.put("inner", (Supplier<Object>) () -> {
+            try {
+                return Expression.parse(inner).evaluate(variables);
+            } catch (final VariableException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        final long budget = ScriptWatchdog.getBudget();
+        ScriptWatchdog.setBudget(20);
+        try {
+            final Expression outer = Expression.parse("${(function() { return inner.get(); })()}");
+            assertThrows(ScriptTimeoutException.class, () -> outer.evaluate(variables));
+            assertThrows(ScriptTimeoutException.class, () -> outer.evaluate(variables));
+
+            variables.put("Spin", Boolean.FALSE);
+            assertEquals(1, evaluate(inner, variables));
+        } finally {
+            ScriptWatchdog.setBudget(budget);
+        }
+    }
+
+    @Test
+    public void methodsOfUntypedValuesAreLeftToNashorn() throws VariableException {
+        final Counter counter = new Counter();
+        final VariableMap variables = new VariableMap();
+        variables.put("counter", counter);
+        variables.put("Expected", "3");
+
+        // 解析时不知道 counter 的类型, 整个脚本交给 Nashorn, 方法只调用一次
+        assertNull(FastExpression.compile("counter.touch() + 1"));
+        assertEquals(Double.NaN, evaluate("${counter.touch() + 1}", variables));
+        assertEquals(1, counter.count);
+
+        final String compare = "${counter.next() + 1 == Expected}";
+        assertEquals(Boolean.TRUE, Expression.parse(compare).evaluate(variables));
+        assertEquals(2, counter.count);
+
+        // 从 mascot 开始的方法调用可以确定返回类型, 仍然直接计算
+        assertNotNull(FastExpression.compile("mascot.environment.floor.isOn(mascot.anchor)"));
+        assertNotNull(FastExpression.compile("!mascot.environment.workArea.bottomBorder.isOn(mascot.anchor) || mascot.anchor.x > 10"));
+        assertNull(FastExpression.compile("mascot.environment.floor.isOn(mascot.anchor) == Expected"));
+    }
+}
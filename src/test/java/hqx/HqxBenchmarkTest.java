@@ -0,0 +1,87 @@
+package hqx;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Times hq2x, hq3x and hq4x on the frames of {@code img/Shimeji}. It only runs in the {@code jit-benchmark} profile:
+ * <pre>
+ * mvn test -P jit-benchmark
+ * </pre>
+ * The profile also passes {@code -XX:+PrintCompilation}, so the log shows whether every {@code hq*x_32_rb} and
+ * {@code rulesN} method reaches tier 3/4. The benchmark only uses the public {@code hq*x_32_rb} entry points and
+ * {@link RgbYuv#hqxInit()}, so the same file can be copied onto an older commit to get the "before" numbers. The
+ * printed checksum must be the same for both runs.
+ */
+@EnabledIfSystemProperty(named = "hqx.benchmark", matches = "true")
+public class HqxBenchmarkTest {
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    public void benchmark() throws IOException {
+        final List<BufferedImage> frames = new ArrayList<>();
+        final File[] files = new File("img/Shimeji").listFiles((dir, name) -> name.endsWith(".png"));
+        Arrays.sort(files);
+        for (final File file : files) {
+            frames.add(ImageIO.read(file));
+        }
+        long pixels = 0;
+        for (final BufferedImage frame : frames) {
+            pixels += (long) frame.getWidth() * frame.getHeight();
+        }
+        RgbYuv.hqxInit();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(frames, 2);
+            run(frames, 3);
+            run(frames, 4);
+        }
+        for (int scale = 2; scale <= 4; scale++) {
+            final long[] times = new long[MEASURED_ROUNDS];
+            long checksum = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                final long start = System.nanoTime();
+                checksum = run(frames, scale);
+                times[round] = System.nanoTime() - start;
+            }
+            Arrays.sort(times);
+            System.out.printf("hq%dx: %d frames, median %.1f ms per source megapixel, best %.1f, checksum %016x%n",
+                    scale, frames.size(), times[MEASURED_ROUNDS / 2] / 1e6 / (pixels / 1e6),
+                    times[0] / 1e6 / (pixels / 1e6), checksum);
+        }
+    }
+
+    private static long run(final List<BufferedImage> frames, final int scale) {
+        long checksum = 0;
+        for (final BufferedImage frame : frames) {
+            final int width = frame.getWidth();
+            final int height = frame.getHeight();
+            final int[] source = frame.getRGB(0, 0, width, height, null, 0, width);
+            final int[] destination = new int[width * height * scale * scale];
+            switch (scale) {
+                case 2:
+                    Hqx_2x.hq2x_32_rb(source, destination, width, height);
+                    break;
+                case 3:
+                    Hqx_3x.hq3x_32_rb(source, destination, width, height);
+                    break;
+                default:
+                    Hqx_4x.hq4x_32_rb(source, destination, width, height);
+                    break;
+            }
+            checksum = checksum * 31 + Arrays.hashCode(destination);
+        }
+        return checksum;
+    }
+}
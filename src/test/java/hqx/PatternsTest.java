@@ -0,0 +1,73 @@
+package hqx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PatternsTest {
+    private static final int trY = 48 << 16;
+    private static final int trU = 7 << 8;
+    private static final int trV = 6;
+    private static final int trA = 0;
+
+    @Test
+    public void patternsMatchPixelByPixelDiff() {
+        final int Xres = 37;
+        final int Yres = 23;
+        final int[] sp = new int[Xres * Yres];
+        final int[] colours = new int[12];
+        final Random random = new Random(26);
+        for (int i = 0; i < colours.length; i++) {
+            colours[i] = random.nextInt();
+        }
+        // Few colours, so equal neighbours are common and both branches are covered
+        for (int i = 0; i < sp.length; i++) {
+            sp[i] = colours[random.nextInt(colours.length)];
+        }
+
+        for (final boolean wrapX : new boolean[]{false, true}) {
+            for (final boolean wrapY : new boolean[]{false, true}) {
+                final int[] patterns = Patterns.compute(sp, Xres, Yres, trY, trU, trV, trA, wrapX, wrapY);
+                for (int j = 0; j < Yres; j++) {
+                    for (int i = 0; i < Xres; i++) {
+                        assertEquals(expected(sp, Xres, Yres, i, j, wrapX, wrapY), patterns[j * Xres + i],
+                                "pixel " + i + "," + j + " wrapX=" + wrapX + " wrapY=" + wrapY);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the pattern of one pixel the way the rule switch did before the separate pass, using {@link Hqx#diff}.
+     */
+    private static int expected(final int[] sp, final int Xres, final int Yres, final int i, final int j,
+                                final boolean wrapX, final boolean wrapY) {
+        final int centre = sp[j * Xres + i];
+        int pattern = 0;
+        int flag = 1;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (dx == 0 && dy == 0) {
+                    continue;
+                }
+                final int c = sp[neighbour(j, dy, Yres, wrapY) * Xres + neighbour(i, dx, Xres, wrapX)];
+                if (c != centre && Hqx.diff(centre, c, trY, trU, trV, trA)) {
+                    pattern |= flag;
+                }
+                flag <<= 1;
+            }
+        }
+        return pattern;
+    }
+
+    private static int neighbour(final int index, final int offset, final int size, final boolean wrap) {
+        final int result = index + offset;
+        if (result < 0 || result >= size) {
+            return wrap ? (result + size) % size : index;
+        }
+        return result;
+    }
+}